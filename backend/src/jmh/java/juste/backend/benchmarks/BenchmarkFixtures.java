@@ -0,0 +1,96 @@
+package juste.backend.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.export.CVRendererRegistry;
+import juste.backend.export.ExportMetrics;
+import juste.backend.export.InFlightRenders;
+import juste.backend.export.PDFRenderCache;
+import juste.backend.export.PDFRenderEngine;
+import juste.backend.export.PDFRenderLimiter;
+import juste.backend.export.RenderBufferPool;
+import juste.backend.export.RenderPaletteCache;
+import juste.backend.export.RenderStore;
+import juste.backend.export.SectionBuildPool;
+import juste.backend.export.SectionFragmentCache;
+import juste.backend.export.layout.LabelTables;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import juste.backend.mappers.CVMapper;
+import juste.backend.repositories.CVRepository;
+import juste.backend.services.impl.PDFExportServiceImpl;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Assemble le moteur et le service d'export hors de Spring, sans MongoDB.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Propriétés d'export sans cache (PDF, disque ni sections) ni limitation, pour mesurer le rendu lui-même.
+     */
+    static ExportProperties uncachedProperties() {
+        ExportProperties properties = new ExportProperties();
+        properties.getCache().setMaxBytes(0);
+        properties.getFragments().setMaxBytes(0);
+        properties.getStore().setEnabled(false);
+        properties.getLimiter().setMaxConcurrent(1024);
+        properties.getLimiter().setMaxPerUser(1024);
+        return properties;
+    }
+
+    static PDFRenderEngine renderEngine(ExportProperties properties) {
+        return renderEngine(properties, new LabelTables());
+    }
+
+    static PDFRenderEngine renderEngine(ExportProperties properties, LabelTables labelTables) {
+        return new PDFRenderEngine(labelTables, new RenderPaletteCache(properties),
+                new LayoutPlanRegistry(properties, labelTables),
+                new SectionFragmentCache(properties, new SimpleMeterRegistry()),
+                new SectionBuildPool(properties),
+                new ExportMetrics(new SimpleMeterRegistry()));
+    }
+
+    /**
+     * Service d'export complet dont le repository ne sert que les CV fournis.
+     */
+    static PDFExportServiceImpl exportService(ExportProperties properties, Map<String, CV> cvs) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LabelTables labelTables = new LabelTables();
+        LayoutPlanRegistry layoutPlans = new LayoutPlanRegistry(properties, labelTables);
+        return new PDFExportServiceImpl(
+                stubRepository(cvs),
+                new CVMapper(),
+                new CVRendererRegistry(List.of(renderEngine(properties, labelTables))),
+                new PDFRenderCache(properties, layoutPlans, meterRegistry),
+                new RenderStore(properties, layoutPlans, meterRegistry),
+                new PDFRenderLimiter(properties, meterRegistry),
+                new InFlightRenders(meterRegistry),
+                new RenderBufferPool(properties, meterRegistry),
+                layoutPlans,
+                properties,
+                new ExportMetrics(meterRegistry));
+    }
+
+    private static CVRepository stubRepository(Map<String, CV> cvs) {
+        return (CVRepository) Proxy.newProxyInstance(
+                CVRepository.class.getClassLoader(),
+                new Class<?>[]{CVRepository.class},
+                (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        return Optional.ofNullable(cvs.get((String) args[0]));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,77 @@
+package juste.backend.benchmarks;
+
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.enums.Theme;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PDFRenderEngine;
+import juste.backend.services.impl.PDFExportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit, latence (percentiles via SampleTime) et allocation (-prof gc) du rendu PDF,
+ * pour chaque taille de CV, thème et locale.
+ *
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="PDFExportBenchmark -p size=TYPICAL -prof gc"
+ * </pre>
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PDFExportBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "PATHOLOGICAL"})
+    public SyntheticCVs.Size size;
+
+    @Param({"LIGHT", "DARK"})
+    public Theme theme;
+
+    @Param({"fr", "en"})
+    public String lang;
+
+    private CV cv;
+    private Locale locale;
+    private PDFRenderEngine renderEngine;
+    private PDFExportServiceImpl exportService;
+
+    @Setup
+    public void setUp() {
+        ExportProperties properties = BenchmarkFixtures.uncachedProperties();
+        cv = SyntheticCVs.create(size, theme);
+        locale = Locale.forLanguageTag(lang);
+        renderEngine = BenchmarkFixtures.renderEngine(properties);
+        exportService = BenchmarkFixtures.exportService(properties, Map.of(cv.getId(), cv));
+    }
+
+    /**
+     * Rendu iText seul.
+     */
+    @Benchmark
+    public void render(Blackhole blackhole) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderEngine.render(cv, locale, OutputProfile.STANDARD, out);
+        blackhole.consume(out.size());
+    }
+
+    /**
+     * Chemin complet du service (chargement via le repository simulé, empreinte, admission, rendu).
+     */
+    @Benchmark
+    public byte[] generatePDF() {
+        return exportService.generatePDF(cv.getId(), "bench@example.com", locale);
+    }
+}
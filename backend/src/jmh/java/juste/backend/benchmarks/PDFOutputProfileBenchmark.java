@@ -0,0 +1,65 @@
+package juste.backend.benchmarks;
+
+import juste.backend.document.CV;
+import juste.backend.enums.Theme;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PDFRenderEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Taille produite (compteur auxiliaire {@code bytes}, en octets par rendu) et temps de rendu
+ * de chaque profil de sortie, pour choisir les profils par défaut de {@code export.output}.
+ *
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="PDFOutputProfileBenchmark"
+ * </pre>
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PDFOutputProfileBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "PATHOLOGICAL"})
+    public SyntheticCVs.Size size;
+
+    @Param({"STANDARD", "FAST", "COMPACT"})
+    public OutputProfile profile;
+
+    private CV cv;
+    private PDFRenderEngine renderEngine;
+
+    @Setup
+    public void setUp() {
+        cv = SyntheticCVs.create(size, Theme.LIGHT);
+        renderEngine = BenchmarkFixtures.renderEngine(BenchmarkFixtures.uncachedProperties());
+    }
+
+    /**
+     * Taille du dernier PDF produit. Le rendu étant déterministe en taille pour un CV et un profil,
+     * la valeur relevée en fin d'itération est la taille d'un rendu (un seul thread de mesure).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class OutputSize {
+
+        public long bytes;
+    }
+
+    @Benchmark
+    public int render(OutputSize outputSize) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderEngine.render(cv, Locale.FRENCH, profile, out);
+        outputSize.bytes = out.size();
+        return out.size();
+    }
+}
@@ -0,0 +1,57 @@
+package juste.backend.benchmarks;
+
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.enums.Theme;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PDFRenderEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendu séquentiel ou avec construction parallèle des sections (sans cache de sections),
+ * pour régler {@code export.parallel.min-items}.
+ *
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="ParallelSectionBenchmark"
+ * </pre>
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelSectionBenchmark {
+
+    @Param({"TYPICAL", "PATHOLOGICAL"})
+    public SyntheticCVs.Size size;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private CV cv;
+    private PDFRenderEngine renderEngine;
+
+    @Setup
+    public void setUp() {
+        ExportProperties properties = BenchmarkFixtures.uncachedProperties();
+        properties.getParallel().setParallelism(parallelism);
+        properties.getParallel().setMinItems(0);
+        cv = SyntheticCVs.create(size, Theme.LIGHT);
+        renderEngine = BenchmarkFixtures.renderEngine(properties);
+    }
+
+    @Benchmark
+    public int render() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderEngine.render(cv, Locale.FRENCH, OutputProfile.STANDARD, out);
+        return out.size();
+    }
+}
@@ -0,0 +1,134 @@
+package juste.backend.benchmarks;
+
+import juste.backend.document.*;
+import juste.backend.enums.LanguageLevel;
+import juste.backend.enums.SkillLevel;
+import juste.backend.enums.Theme;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CV synthétiques de tailles contrôlées pour les benchmarks.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public final class SyntheticCVs {
+
+    public enum Size {
+        /** Une expérience, une formation, quelques compétences. */
+        SMALL,
+        /** Profil courant : quelques expériences détaillées. */
+        TYPICAL,
+        /** Cas extrême : des centaines d'expériences et de réalisations, résumés très longs. */
+        PATHOLOGICAL
+    }
+
+    private static final String SENTENCE =
+            "Conception et développement de services REST sécurisés, revue de code et accompagnement de l'équipe. ";
+
+    private SyntheticCVs() {
+    }
+
+    public static CV create(Size size, Theme theme) {
+        return switch (size) {
+            case SMALL -> build("small", theme, 1, 1, 1, 3, 1, 0, 2, 2);
+            case TYPICAL -> build("typical", theme, 4, 3, 4, 12, 3, 1, 5, 5);
+            case PATHOLOGICAL -> build("pathological", theme, 300, 12, 50, 120, 10, 40, 30, 60);
+        };
+    }
+
+    private static CV build(String id, Theme theme, int experiences, int achievements, int summarySentences,
+                            int skills, int languages, int volunteerActivities, int interests, int education) {
+
+        List<Experience> experienceList = new ArrayList<>();
+        for (int i = 0; i < experiences; i++) {
+            List<String> achievementList = new ArrayList<>();
+            for (int j = 0; j < achievements; j++) {
+                achievementList.add("Réalisation " + j + " : réduction de 30 % du temps de réponse de l'API " + i);
+            }
+            experienceList.add(Experience.builder()
+                    .position("Développeur Java " + i)
+                    .company("Entreprise " + i)
+                    .location("Lomé")
+                    .startDate(LocalDate.of(2010, 1, 1).plusMonths(i))
+                    .endDate(i == 0 ? null : LocalDate.of(2011, 1, 1).plusMonths(i))
+                    .isCurrent(i == 0)
+                    .description(SENTENCE.repeat(2))
+                    .achievements(achievementList)
+                    .build());
+        }
+
+        List<Education> educationList = new ArrayList<>();
+        for (int i = 0; i < education; i++) {
+            educationList.add(Education.builder()
+                    .degree("Master Informatique " + i)
+                    .institution("Université de Lomé")
+                    .location("Lomé")
+                    .startDate(LocalDate.of(2005, 9, 1).plusYears(i))
+                    .endDate(LocalDate.of(2007, 6, 30).plusYears(i))
+                    .build());
+        }
+
+        List<Skill> skillList = new ArrayList<>();
+        for (int i = 0; i < skills; i++) {
+            skillList.add(Skill.builder()
+                    .name("Compétence " + i)
+                    .category("Catégorie " + (i % 5))
+                    .level(SkillLevel.values()[i % SkillLevel.values().length])
+                    .build());
+        }
+
+        List<Language> languageList = new ArrayList<>();
+        for (int i = 0; i < languages; i++) {
+            languageList.add(Language.builder()
+                    .name("Langue " + i)
+                    .level(LanguageLevel.values()[i % LanguageLevel.values().length])
+                    .build());
+        }
+
+        List<VolunteerActivity> volunteerList = new ArrayList<>();
+        for (int i = 0; i < volunteerActivities; i++) {
+            volunteerList.add(VolunteerActivity.builder()
+                    .role("Bénévole " + i)
+                    .organization("Association " + i)
+                    .startDate(LocalDate.of(2015, 1, 1))
+                    .isCurrent(true)
+                    .description(SENTENCE)
+                    .build());
+        }
+
+        List<String> interestList = new ArrayList<>();
+        for (int i = 0; i < interests; i++) {
+            interestList.add("Intérêt " + i);
+        }
+
+        return CV.builder()
+                .id(id + "-" + theme)
+                .userId("bench-user")
+                .title("CV " + id)
+                .personalInfo(PersonalInfo.builder()
+                        .fullName("Komi Juste")
+                        .jobTitle("Ingénieur logiciel")
+                        .email("juste@example.com")
+                        .phone("+228 90 00 00 00")
+                        .address("Lomé, Togo")
+                        .linkedIn("linkedin.com/in/juste")
+                        .build())
+                .summary(SENTENCE.repeat(summarySentences))
+                .experiences(experienceList)
+                .education(educationList)
+                .skills(skillList)
+                .languages(languageList)
+                .volunteerActivities(volunteerList)
+                .interests(interestList)
+                .styling(Styling.builder()
+                        .theme(theme)
+                        .primaryColor("#3B82F6")
+                        .accentColor("#10B981")
+                        .build())
+                .build();
+    }
+}
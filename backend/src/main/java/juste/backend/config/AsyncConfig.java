@@ -0,0 +1,21 @@
+package juste.backend.config;
+
+import juste.backend.export.RenderCancellationInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Réponses asynchrones (exports écrits en flux) : un rendu abandonné par le client est annulé.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new RenderCancellationInterceptor());
+    }
+}
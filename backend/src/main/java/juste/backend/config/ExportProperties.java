@@ -0,0 +1,284 @@
+package juste.backend.config;
+import juste.backend.enums.Theme;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.layout.LayoutDefinition;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "export")
+public class ExportProperties {
+
+    /**
+     * Cache mémoire des PDF rendus.
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Éléments déjà construits des sections, réutilisés d'un rendu à l'autre.
+     */
+    private Fragments fragments = new Fragments();
+
+    /**
+     * Palettes de rendu (polices et couleurs) précalculées.
+     */
+    private Palette palette = new Palette();
+
+    /**
+     * Mises en page par thème ; un thème absent utilise la mise en page intégrée.
+     */
+    private Map<Theme, LayoutDefinition> layouts = new EnumMap<>(Theme.class);
+
+    /**
+     * Exports asynchrones (API de tâches).
+     */
+    private Jobs jobs = new Jobs();
+
+    /**
+     * Export groupé de tous les CV d'un utilisateur.
+     */
+    private Bulk bulk = new Bulk();
+
+    /**
+     * Contrôle d'admission des rendus.
+     */
+    private Limiter limiter = new Limiter();
+
+    /**
+     * Profils de sortie PDF par défaut, par point d'entrée.
+     */
+    private Output output = new Output();
+
+    /**
+     * Miniatures PNG de la première page.
+     */
+    private Thumbnail thumbnail = new Thumbnail();
+
+    /**
+     * Rendu en arrière-plan après chaque enregistrement d'un CV.
+     */
+    private PreRender preRender = new PreRender();
+
+    /**
+     * Tampons de sortie réutilisés d'un rendu à l'autre.
+     */
+    private Buffers buffers = new Buffers();
+
+    /**
+     * Stockage disque des documents rendus, conservé entre deux démarrages.
+     */
+    private Store store = new Store();
+
+    /**
+     * Construction en parallèle des sections d'un long CV.
+     */
+    private Parallel parallel = new Parallel();
+
+    @Data
+    public static class Cache {
+
+        /**
+         * Taille totale maximale des PDF conservés, en octets (par défaut 64 Mo).
+         */
+        private long maxBytes = 64L * 1024 * 1024;
+
+        /**
+         * Taille maximale d'un PDF pour être mis en cache, en octets (par défaut 2 Mo).
+         * Borne aussi la copie gardée en mémoire pendant un export en streaming.
+         */
+        private int maxEntryBytes = 2 * 1024 * 1024;
+    }
+
+    @Data
+    public static class Fragments {
+
+        /**
+         * Taille estimée maximale (en octets) des sections construites gardées en mémoire.
+         */
+        private long maxBytes = 8L * 1024 * 1024;
+    }
+
+    @Data
+    public static class Palette {
+
+        /**
+         * Nombre maximal de combinaisons (thème, couleurs) gardées en mémoire.
+         */
+        private int maxEntries = 256;
+    }
+
+    @Data
+    public static class Jobs {
+
+        /**
+         * Nombre de threads de rendu dédiés aux tâches.
+         */
+        private int poolSize = 2;
+
+        /**
+         * Nombre maximal de tâches en attente ; au-delà, les soumissions sont refusées (503).
+         */
+        private int queueCapacity = 50;
+
+        /**
+         * Durée de conservation d'un résultat après la fin de la tâche.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Bulk {
+
+        /**
+         * Nombre de rendus menés en parallèle (et donc de PDF en mémoire) par export groupé.
+         */
+        private int parallelism = 4;
+    }
+
+    @Data
+    public static class Limiter {
+
+        /**
+         * Nombre de rendus PDF simultanés autorisés.
+         */
+        private int maxConcurrent = 4;
+
+        /**
+         * Nombre de demandes pouvant attendre un permis ; au-delà, refus immédiat (503).
+         */
+        private int maxQueued = 8;
+
+        /**
+         * Nombre de rendus simultanés autorisés pour un même utilisateur.
+         */
+        private int maxPerUser = 2;
+
+        /**
+         * Attente maximale d'un permis avant refus.
+         */
+        private Duration maxWait = Duration.ofSeconds(2);
+
+        /**
+         * Attente maximale d'un permis pour un rendu déjà accepté (entrée d'archive, tâche d'export),
+         * qui n'occupe pas la file bornée ; au-delà, le rendu échoue.
+         */
+        private Duration maxQueuedWait = Duration.ofMinutes(2);
+
+        /**
+         * Délai conseillé au client (en-tête Retry-After) après un refus.
+         */
+        private Duration retryAfter = Duration.ofSeconds(2);
+
+        /**
+         * Durée maximale d'un rendu ; au-delà, il est interrompu entre deux sections.
+         */
+        private Duration deadline = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Output {
+
+        /**
+         * Téléchargement direct (et rendu anticipé, qui alimente ce téléchargement).
+         */
+        private OutputProfile download = OutputProfile.STANDARD;
+
+        /**
+         * Export groupé en ZIP.
+         */
+        private OutputProfile bulk = OutputProfile.STANDARD;
+
+        /**
+         * Tâches d'export asynchrones.
+         */
+        private OutputProfile jobs = OutputProfile.STANDARD;
+    }
+
+    @Data
+    public static class Thumbnail {
+
+        /**
+         * Résolution de rastérisation (36 dpi : environ 300 x 420 pixels pour une page A4).
+         */
+        private float dpi = 36;
+
+        /**
+         * Taille totale maximale des miniatures conservées, en octets (par défaut 16 Mo).
+         */
+        private long maxBytes = 16L * 1024 * 1024;
+
+        /**
+         * Durée de mise en cache côté client d'une miniature demandée avec sa version ({@code v}).
+         */
+        private Duration maxAge = Duration.ofDays(365);
+    }
+
+    @Data
+    public static class PreRender {
+
+        /**
+         * Active le rendu anticipé des CV enregistrés.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Délai d'attente après le dernier enregistrement : des enregistrements rapprochés
+         * ne déclenchent qu'un seul rendu.
+         */
+        private Duration delay = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class Buffers {
+
+        /**
+         * Mémoire maximale gardée en réserve par le pool de tampons, en octets (par défaut 8 Mo).
+         */
+        private long maxPooledBytes = 8L * 1024 * 1024;
+    }
+
+    @Data
+    public static class Store {
+
+        /**
+         * Active le stockage disque des rendus.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Répertoire des rendus ; un sous-répertoire par version de rendu.
+         */
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "cvpro-renders");
+
+        /**
+         * Taille totale maximale des fichiers conservés, en octets (par défaut 512 Mo).
+         */
+        private long maxBytes = 512L * 1024 * 1024;
+    }
+
+    @Data
+    public static class Parallel {
+
+        /**
+         * Nombre de threads construisant les sections ; 1 désactive la construction parallèle.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Nombre d'éléments (entrées et réalisations) à partir duquel les sections d'un CV
+         * sont construites en parallèle ; en dessous, la coordination coûte plus qu'elle ne rapporte.
+         */
+        private int minItems = 100;
+    }
+}
@@ -0,0 +1,11 @@
+package juste.backend.config;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
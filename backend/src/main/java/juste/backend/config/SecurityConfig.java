@@ -1,7 +1,9 @@
 package juste.backend.config;
+import jakarta.servlet.DispatcherType;
 import juste.backend.securite.JwtAuthenticationEntryPoint;
 import juste.backend.securite.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -38,6 +40,9 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -50,12 +55,18 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // Fin des réponses asynchrones (exports PDF en streaming), déjà autorisées
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Endpoints publics
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/test/**").permitAll()
 
-                        // Actuator
+                        // Actuator : servi uniquement sur le port de gestion (management.server.port),
+                        // lié à l'interface interne. Prometheus y scrape sans jeton ; ailleurs, authentification
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
 
                         // Swagger/OpenAPI
                         .requestMatchers("/swagger-ui/**").permitAll()
@@ -98,8 +109,11 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("http://localhost:3000", "http://localhost:4200", "http://localhost:8080"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Accept-Language"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        // En-têtes des exports : reprise (Range, If-Range), revalidation (If-None-Match, ETag) et 503 (Retry-After)
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Accept-Language",
+                "Range", "If-Range", "If-None-Match"));
+        configuration.setExposedHeaders(List.of("Authorization", "ETag", "Content-Range", "Accept-Ranges",
+                "Content-Disposition", "Retry-After"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -1,18 +1,37 @@
 package juste.backend.controllers;
 
+import jakarta.validation.Valid;
+import juste.backend.config.ExportProperties;
+import juste.backend.dtos.requests.CVRequest;
+import juste.backend.dtos.responses.ExportJobResponse;
+import juste.backend.exceptions.BadRequestException;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PreparedExport;
+import juste.backend.export.RenderCancellationInterceptor;
+import juste.backend.export.RenderDeadline;
+import juste.backend.export.RenderFormat;
+import juste.backend.export.RenderPermit;
+import juste.backend.securite.AuthenticatedUser;
+import juste.backend.services.IBulkExportService;
+import juste.backend.services.IExportJobService;
 import juste.backend.services.IPDFExportService;
+import juste.backend.services.IThumbnailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Locale;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -25,52 +44,416 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class ExportController {
 
+    private static final MediaType APPLICATION_ZIP = MediaType.parseMediaType("application/zip");
+
     private final IPDFExportService pdfExportService;
+    private final IExportJobService exportJobService;
+    private final IBulkExportService bulkExportService;
+    private final IThumbnailService thumbnailService;
+    private final ExportProperties exportProperties;
 
     /**
      * Génère et télécharge un CV au format PDF.
+     * Le PDF est écrit directement dans la réponse (transfert chunked), sans être bufferisé.
+     * La réponse porte un ETag : un client qui le renvoie ({@code If-None-Match}) reçoit
+     * un 304 sans rendu, et une requête {@code Range} reprend un téléchargement interrompu (206).
+     * Un profil dont le rendu n'est pas reproductible octet pour octet (compact) n'a qu'un ETag
+     * faible et ne sert pas de plages : des octets de deux rendus ne peuvent pas être assemblés.
+     * Avec plusieurs langues (ex. {@code lang=fr,en}), le CV n'est lu qu'une fois et
+     * toutes les variantes sont renvoyées dans une archive ZIP.
      *
      * @param cvId ID du CV à exporter
-     * @param lang Langue du PDF (fr ou en)
+     * @param lang Langue(s) du PDF (fr, en ou fr,en)
+     * @param profile Profil de sortie (standard, fast ou compact), celui configuré par défaut sinon
      * @param authentication Authentification de l'utilisateur
-     * @return Fichier PDF à télécharger
+     * @param request Requête, pour la validation conditionnelle et les plages
+     * @return Fichier PDF (ou une plage de celui-ci), ou archive ZIP si plusieurs langues
      */
     @GetMapping("/pdf/{cvId}")
-    public ResponseEntity<byte[]> exportToPDF(
+    public ResponseEntity<?> exportToPDF(
             @PathVariable String cvId,
-            @RequestParam(defaultValue = "fr") String lang,
-            Authentication authentication) {
+            @RequestParam(defaultValue = "fr") List<String> lang,
+            @RequestParam(required = false) String profile,
+            Authentication authentication,
+            WebRequest request) {
 
         log.info("GET /api/export/pdf/{} - Utilisateur: {}, Langue: {}",
                 cvId, authentication.getName(), lang);
 
-        // Déterminer la locale
-        Locale locale = "en".equalsIgnoreCase(lang) ? Locale.ENGLISH : Locale.FRENCH;
+        List<Locale> locales = resolveLocales(lang);
+        OutputProfile outputProfile = resolveProfile(profile);
+        if (locales.size() > 1) {
+            return exportLocalesToZip(cvId, locales, outputProfile, authentication);
+        }
+
+        // Charger le CV avant d'engager la réponse (404 possible)
+        PreparedExport export = withProfile(
+                pdfExportService.prepare(cvId, authentication.getName(), locales.get(0)), outputProfile);
 
-        // Générer le PDF
-        byte[] pdfContent = pdfExportService.generatePDF(cvId, authentication.getName(), locale);
+        // Document déjà détenu par le client : aucun rendu
+        String eTag = pdfExportService.eTag(export);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
 
         // Créer le nom du fichier
         String fileName = generateFileName();
+        boolean byteExact = export.profile().isDeterministic();
+        HttpHeaders headers = pdfHeaders(fileName, eTag, byteExact);
+
+        // Reprise d'un téléchargement : le PDF complet est nécessaire pour en extraire la plage,
+        // que Spring découpe (206, ou 416 si la plage est invalide)
+        if (byteExact && isRangeRequest(request, eTag)) {
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(new ByteArrayResource(pdfExportService.render(export)));
+        }
+
+        // Contrôle d'admission avant d'engager la réponse (503 possible)
+        RenderPermit permit = pdfExportService.admit(export);
+        // Client déconnecté ou requête expirée : rendu abandonné, permis libéré s'il n'a pas servi
+        RenderDeadline deadline = RenderCancellationInterceptor.bind(request, pdfExportService.deadline(), permit);
+
+        StreamingResponseBody body = outputStream -> {
+            try (permit) {
+                pdfExportService.write(export, outputStream, permit, deadline);
+            }
+            log.info("PDF généré avec succès: {}", fileName);
+        };
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+
+    /**
+     * Aperçu HTML du CV (mêmes sections, libellés et couleurs que le PDF), écrit directement
+     * dans la réponse. Bien plus léger qu'un PDF, il sert à l'aperçu pendant l'édition.
+     *
+     * @param cvId ID du CV
+     * @param lang Langue de l'aperçu (fr ou en)
+     * @param authentication Authentification de l'utilisateur
+     * @param webRequest Requête, dont la fin annule le rendu en cours
+     * @return Page HTML
+     */
+    @GetMapping("/html/{cvId}")
+    public ResponseEntity<StreamingResponseBody> exportToHTML(
+            @PathVariable String cvId,
+            @RequestParam(defaultValue = "fr") String lang,
+            Authentication authentication,
+            WebRequest webRequest) {
+
+        log.info("GET /api/export/html/{} - Utilisateur: {}, Langue: {}",
+                cvId, authentication.getName(), lang);
+
+        PreparedExport export = pdfExportService.prepare(cvId, authentication.getName(), resolveLocale(lang))
+                .withFormat(RenderFormat.HTML);
+        RenderPermit permit = pdfExportService.admit(export);
+        RenderDeadline deadline = RenderCancellationInterceptor.bind(webRequest, pdfExportService.deadline(), permit);
+
+        StreamingResponseBody body = outputStream -> {
+            try (permit) {
+                pdfExportService.write(export, outputStream, permit, deadline);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(RenderFormat.HTML.getMediaType())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body);
+    }
+
+    /**
+     * Aperçu d'un CV en cours d'édition, rendu depuis le contenu envoyé sans l'enregistrer :
+     * aucun accès à la base, et la date de modification du CV reste inchangée.
+     *
+     * @param request Contenu du CV (même format que la création)
+     * @param lang Langue de l'aperçu (fr ou en)
+     * @param format Format de l'aperçu (pdf ou html)
+     * @param authentication Authentification de l'utilisateur
+     * @param webRequest Requête, dont la fin annule le rendu en cours
+     * @return Document affichable dans le navigateur
+     */
+    @PostMapping("/preview")
+    public ResponseEntity<StreamingResponseBody> preview(
+            @Valid @RequestBody CVRequest request,
+            @RequestParam(defaultValue = "fr") String lang,
+            @RequestParam(defaultValue = "pdf") String format,
+            Authentication authentication,
+            WebRequest webRequest) {
+
+        log.info("POST /api/export/preview - Utilisateur: {}, Langue: {}, Format: {}",
+                authentication.getName(), lang, format);
+
+        PreparedExport export = pdfExportService.preparePreview(request, resolveLocale(lang))
+                .withFormat(resolveFormat(format));
+        RenderPermit permit = pdfExportService.admitPreview(AuthenticatedUser.idOf(authentication));
+        RenderDeadline deadline = RenderCancellationInterceptor.bind(webRequest, pdfExportService.deadline(), permit);
+
+        StreamingResponseBody body = outputStream -> {
+            try (permit) {
+                pdfExportService.writePreview(export, outputStream, deadline);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(export.format().getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
+    /**
+     * Miniature PNG de la première page du CV, pour les listes de CV.
+     * L'ETag est la version de la miniature (empreinte du contenu et version du rendu) : un client
+     * qui la renvoie reçoit un 304 sans rendu.
+     * Demandée avec cette version en paramètre {@code v}, la miniature est immuable et
+     * mise en cache longtemps ; sans, le client doit la revalider à chaque affichage.
+     *
+     * @param cvId ID du CV
+     * @param lang Langue des titres de section (fr ou en)
+     * @param v Version de la miniature (valeur de l'ETag, sans guillemets)
+     * @param authentication Authentification de l'utilisateur
+     * @param request Requête, pour la validation conditionnelle
+     * @return Image PNG
+     */
+    @GetMapping("/pdf/{cvId}/thumbnail")
+    public ResponseEntity<byte[]> getThumbnail(
+            @PathVariable String cvId,
+            @RequestParam(defaultValue = "fr") String lang,
+            @RequestParam(required = false) String v,
+            Authentication authentication,
+            WebRequest request) {
+
+        log.info("GET /api/export/pdf/{}/thumbnail - Utilisateur: {}, Langue: {}",
+                cvId, authentication.getName(), lang);
+
+        PreparedExport export = pdfExportService.prepare(cvId, authentication.getName(), resolveLocale(lang));
+
+        String version = thumbnailService.version(export);
+        CacheControl cacheControl = version.equals(v)
+                ? CacheControl.maxAge(exportProperties.getThumbnail().getMaxAge()).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate();
+
+        String eTag = "\"" + version + "\"";
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(thumbnailService.getThumbnail(export));
+    }
+
+    /**
+     * Télécharge tous les CV de l'utilisateur en PDF, regroupés dans une archive ZIP.
+     * Les PDF sont rendus en parallèle et ajoutés à l'archive au fil de l'eau.
+     *
+     * @param lang Langue des PDF (fr ou en)
+     * @param profile Profil de sortie (standard, fast ou compact), celui configuré par défaut sinon
+     * @param authentication Authentification de l'utilisateur
+     * @return Archive ZIP à télécharger
+     */
+    @GetMapping("/pdf/all")
+    public ResponseEntity<StreamingResponseBody> exportAllToZip(
+            @RequestParam(defaultValue = "fr") String lang,
+            @RequestParam(required = false) String profile,
+            Authentication authentication) {
+
+        log.info("GET /api/export/pdf/all - Utilisateur: {}, Langue: {}", authentication.getName(), lang);
+
+        OutputProfile outputProfile = resolveProfile(profile);
+        List<PreparedExport> exports = bulkExportService.prepareAll(authentication.getName(), resolveLocale(lang))
+                .stream()
+                .map(export -> withProfile(export, outputProfile))
+                .toList();
+
+        StreamingResponseBody body = outputStream -> bulkExportService.writeZip(exports, outputStream);
+
+        return ResponseEntity.ok()
+                .headers(zipHeaders(generateFileName("CVs", "zip")))
+                .body(body);
+    }
+
+    /**
+     * Crée une tâche d'export PDF rendue en arrière-plan.
+     *
+     * @param cvId ID du CV à exporter
+     * @param lang Langue du PDF (fr ou en)
+     * @param authentication Authentification de l'utilisateur
+     * @return Tâche créée (à interroger jusqu'à son achèvement)
+     */
+    @PostMapping("/pdf/{cvId}/jobs")
+    public ResponseEntity<ExportJobResponse> createExportJob(
+            @PathVariable String cvId,
+            @RequestParam(defaultValue = "fr") String lang,
+            Authentication authentication) {
+
+        log.info("POST /api/export/pdf/{}/jobs - Utilisateur: {}, Langue: {}",
+                cvId, authentication.getName(), lang);
+
+        ExportJobResponse job = exportJobService.submit(cvId, authentication.getName(), resolveLocale(lang));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Récupère l'état d'une tâche d'export.
+     */
+    @GetMapping("/pdf/jobs/{jobId}")
+    public ResponseEntity<ExportJobResponse> getExportJob(
+            @PathVariable String jobId,
+            Authentication authentication) {
+
+        log.info("GET /api/export/pdf/jobs/{} - Utilisateur: {}", jobId, authentication.getName());
+        return ResponseEntity.ok(exportJobService.getStatus(jobId, authentication.getName()));
+    }
+
+    /**
+     * Télécharge le PDF d'une tâche d'export terminée.
+     */
+    @GetMapping("/pdf/jobs/{jobId}/download")
+    public ResponseEntity<byte[]> downloadExportJob(
+            @PathVariable String jobId,
+            Authentication authentication) {
+
+        log.info("GET /api/export/pdf/jobs/{}/download - Utilisateur: {}", jobId, authentication.getName());
+
+        byte[] pdfContent = exportJobService.getResult(jobId, authentication.getName());
+
+        return ResponseEntity.ok()
+                .headers(pdfHeaders(generateFileName()))
+                .body(pdfContent);
+    }
+
+    /**
+     * Variantes linguistiques d'un même CV, rendues depuis une seule lecture et
+     * regroupées dans une archive ZIP (un PDF par langue).
+     */
+    private ResponseEntity<StreamingResponseBody> exportLocalesToZip(
+            String cvId, List<Locale> locales, OutputProfile profile, Authentication authentication) {
+
+        List<PreparedExport> exports = pdfExportService.prepare(cvId, authentication.getName(), locales)
+                .stream()
+                .map(export -> withProfile(export, profile))
+                .toList();
+
+        StreamingResponseBody body = outputStream -> bulkExportService.writeZip(exports, outputStream);
+
+        return ResponseEntity.ok()
+                .headers(zipHeaders(generateFileName("CV", "zip")))
+                .body(body);
+    }
+
+    /**
+     * Détermine la locale à partir du paramètre de langue.
+     */
+    private Locale resolveLocale(String lang) {
+        return "en".equalsIgnoreCase(lang) ? Locale.ENGLISH : Locale.FRENCH;
+    }
+
+    /**
+     * Locales distinctes demandées, dans l'ordre du paramètre.
+     */
+    private List<Locale> resolveLocales(List<String> langs) {
+        return langs.stream()
+                .map(String::trim)
+                .map(this::resolveLocale)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Profil de sortie demandé, ou {@code null} pour garder celui configuré.
+     */
+    private OutputProfile resolveProfile(String profile) {
+        if (profile == null || profile.isBlank()) {
+            return null;
+        }
+        try {
+            return OutputProfile.valueOf(profile.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Profil de sortie inconnu: " + profile);
+        }
+    }
+
+    /**
+     * Format de rendu demandé (pdf ou html).
+     */
+    private RenderFormat resolveFormat(String format) {
+        try {
+            return RenderFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Format inconnu: " + format);
+        }
+    }
 
-        // Préparer les headers HTTP
+    private PreparedExport withProfile(PreparedExport export, OutputProfile profile) {
+        return profile != null ? export.withProfile(profile) : export;
+    }
+
+    /**
+     * Headers HTTP d'un téléchargement de PDF.
+     */
+    private HttpHeaders pdfHeaders(String fileName) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
         headers.setContentDispositionFormData("attachment", fileName);
         headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        return headers;
+    }
 
-        log.info("PDF généré avec succès: {}", fileName);
+    /**
+     * Headers HTTP d'un téléchargement de PDF revalidable par son ETag, et dont on peut
+     * demander une plage d'octets si le rendu est reproductible.
+     */
+    private HttpHeaders pdfHeaders(String fileName, String eTag, boolean acceptRanges) {
+        HttpHeaders headers = pdfHeaders(fileName);
+        headers.setETag(eTag);
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        headers.set(HttpHeaders.ACCEPT_RANGES, acceptRanges ? "bytes" : "none");
+        return headers;
+    }
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(pdfContent);
+    /**
+     * Requête de plage à honorer : un {@code If-Range} qui ne correspond plus à l'ETag
+     * demande le document complet.
+     */
+    private boolean isRangeRequest(WebRequest request, String eTag) {
+        if (request.getHeader(HttpHeaders.RANGE) == null) {
+            return false;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.equals(eTag);
+    }
+
+    /**
+     * Headers HTTP d'un téléchargement d'archive ZIP.
+     */
+    private HttpHeaders zipHeaders(String fileName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(APPLICATION_ZIP);
+        headers.setContentDispositionFormData("attachment", fileName);
+        headers.setCacheControl("must-revalidate, post-check=0, pre-check=0");
+        return headers;
     }
 
     /**
      * Génère le nom du fichier PDF avec la date du jour.
      */
     private String generateFileName() {
+        return generateFileName("CV", "pdf");
+    }
+
+    private String generateFileName(String prefix, String extension) {
         String date = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        return String.format("CV_%s.pdf", date);
+        return String.format("%s_%s.%s", prefix, date, extension);
     }
 }
@@ -0,0 +1,18 @@
+package juste.backend.dtos.responses;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+import java.time.Instant;
+
+public record ExportJobResponse(
+        String jobId,
+        String cvId,
+        String status,
+        String language,
+        Instant createdAt,
+        Instant completedAt,
+        Instant expiresAt,
+        String error
+) {}
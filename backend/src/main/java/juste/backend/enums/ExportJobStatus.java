@@ -0,0 +1,12 @@
+package juste.backend.enums;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public enum ExportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,25 @@
+package juste.backend.events;
+
+/**
+ * Événement publié après chaque modification persistée d'un CV.
+ *
+ * @param cvId ID du CV concerné
+ * @param userId ID du propriétaire du CV
+ * @param type Nature de la modification
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public record CVChangedEvent(
+        String cvId,
+        String userId,
+        Type type
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STYLING_UPDATED,
+        DELETED,
+        DUPLICATED
+    }
+}
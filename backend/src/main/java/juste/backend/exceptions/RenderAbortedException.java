@@ -0,0 +1,33 @@
+package juste.backend.exceptions;
+
+/**
+ * Levée quand un rendu est interrompu avant la fin : client parti ou durée maximale dépassée.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public class RenderAbortedException extends RuntimeException {
+
+    public enum Reason {
+        /**
+         * La requête HTTP à l'origine du rendu est terminée (client déconnecté, délai de la requête).
+         */
+        CANCELLED,
+
+        /**
+         * Le rendu a dépassé sa durée maximale.
+         */
+        DEADLINE
+    }
+
+    private final Reason reason;
+
+    public RenderAbortedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,24 @@
+package juste.backend.exceptions;
+
+/**
+ * Levée quand le serveur refuse temporairement une requête (surcharge).
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Délai conseillé avant de réessayer, en secondes.
+     */
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,185 @@
+package juste.backend.export;
+
+import juste.backend.document.*;
+import juste.backend.export.layout.SectionType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Calcule une empreinte SHA-256 du contenu rendu d'un CV (sections, styling et locale),
+ * ou d'une seule de ses sections.
+ * Les champs non rendus (ID, titre, dates d'audit) sont volontairement ignorés.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public final class CVContentHasher {
+
+    private CVContentHasher() {
+    }
+
+    /**
+     * Empreinte du document rendu pour une locale donnée.
+     */
+    public static String hash(CV cv, Locale locale) {
+        Digest digest = new Digest();
+        digest.put(locale.toLanguageTag());
+
+        for (SectionType section : SectionType.values()) {
+            putSection(digest, cv, section);
+        }
+
+        Styling styling = cv.getStyling();
+        digest.put(styling != null);
+        if (styling != null) {
+            digest.put(styling.getTheme());
+            digest.put(styling.getPrimaryColor());
+            digest.put(styling.getAccentColor());
+        }
+
+        return digest.hex();
+    }
+
+    /**
+     * Empreinte du contenu d'une seule section, indépendante de la locale et du styling.
+     */
+    public static String sectionHash(CV cv, SectionType section) {
+        Digest digest = new Digest();
+        digest.put(section);
+        putSection(digest, cv, section);
+        return digest.hex();
+    }
+
+    private static void putSection(Digest digest, CV cv, SectionType section) {
+        switch (section) {
+            case PERSONAL_INFO -> {
+                PersonalInfo info = cv.getPersonalInfo();
+                digest.put(info != null);
+                if (info != null) {
+                    digest.put(info.getFullName());
+                    digest.put(info.getJobTitle());
+                    digest.put(info.getEmail());
+                    digest.put(info.getPhone());
+                    digest.put(info.getAddress());
+                    digest.put(info.getLinkedIn());
+                    digest.put(info.getSkype());
+                }
+            }
+            case SUMMARY -> digest.put(cv.getSummary());
+            case EXPERIENCES -> {
+                digest.putSize(cv.getExperiences());
+                if (cv.getExperiences() != null) {
+                    for (Experience exp : cv.getExperiences()) {
+                        digest.put(exp.getPosition());
+                        digest.put(exp.getCompany());
+                        digest.put(exp.getLocation());
+                        digest.put(exp.getStartDate());
+                        digest.put(exp.getEndDate());
+                        digest.put(exp.getIsCurrent());
+                        digest.put(exp.getDescription());
+                        digest.putStrings(exp.getAchievements());
+                    }
+                }
+            }
+            case EDUCATION -> {
+                digest.putSize(cv.getEducation());
+                if (cv.getEducation() != null) {
+                    for (Education edu : cv.getEducation()) {
+                        digest.put(edu.getDegree());
+                        digest.put(edu.getInstitution());
+                        digest.put(edu.getLocation());
+                        digest.put(edu.getStartDate());
+                        digest.put(edu.getEndDate());
+                    }
+                }
+            }
+            case SKILLS -> {
+                digest.putSize(cv.getSkills());
+                if (cv.getSkills() != null) {
+                    for (Skill skill : cv.getSkills()) {
+                        digest.put(skill.getName());
+                        digest.put(skill.getCategory());
+                        digest.put(skill.getLevel());
+                    }
+                }
+            }
+            case LANGUAGES -> {
+                digest.putSize(cv.getLanguages());
+                if (cv.getLanguages() != null) {
+                    for (Language language : cv.getLanguages()) {
+                        digest.put(language.getName());
+                        digest.put(language.getLevel());
+                    }
+                }
+            }
+            case VOLUNTEER -> {
+                digest.putSize(cv.getVolunteerActivities());
+                if (cv.getVolunteerActivities() != null) {
+                    for (VolunteerActivity activity : cv.getVolunteerActivities()) {
+                        digest.put(activity.getRole());
+                        digest.put(activity.getOrganization());
+                        digest.put(activity.getStartDate());
+                        digest.put(activity.getEndDate());
+                        digest.put(activity.getIsCurrent());
+                        digest.put(activity.getDescription());
+                    }
+                }
+            }
+            case INTERESTS -> digest.putStrings(cv.getInterests());
+        }
+    }
+
+    /**
+     * Alimente le SHA-256 avec des valeurs préfixées par leur longueur,
+     * afin que deux contenus différents ne produisent jamais le même flux.
+     */
+    private static final class Digest {
+
+        private final MessageDigest sha256;
+
+        private Digest() {
+            try {
+                sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 indisponible", e);
+            }
+        }
+
+        void put(Object value) {
+            if (value == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            sha256.update(bytes);
+        }
+
+        void putSize(List<?> values) {
+            putInt(values == null ? -1 : values.size());
+        }
+
+        void putStrings(List<String> values) {
+            putSize(values);
+            if (values != null) {
+                values.forEach(this::put);
+            }
+        }
+
+        String hex() {
+            return HexFormat.of().formatHex(sha256.digest());
+        }
+
+        private void putInt(int value) {
+            sha256.update((byte) (value >>> 24));
+            sha256.update((byte) (value >>> 16));
+            sha256.update((byte) (value >>> 8));
+            sha256.update((byte) value);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package juste.backend.export;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache LRU borné en poids dont chaque entrée appartient à un ou plusieurs CV : toutes les entrées
+ * d'un CV (locales, formats, profils) sont retirées ensemble à sa modification.
+ * Les clés étant des empreintes de contenu, deux CV identiques partagent une entrée, qui n'est
+ * retirée qu'une fois invalidée pour chacun d'eux.
+ * Socle commun des caches de rendus, de miniatures et du stockage disque.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public class CVKeyedCache<V> {
+
+    private final LruCache<String, V> cache;
+    private final Map<String, Set<String>> keysByCv = new HashMap<>();
+    private final Map<String, Set<String>> cvsByKey = new HashMap<>();
+    private final BiConsumer<String, V> evictionListener;
+
+    /**
+     * @param evictionListener Appelé, sous le verrou du cache, pour chaque entrée évincée faute de place
+     *                         (pas pour les entrées invalidées ou retirées), ou {@code null}
+     */
+    public CVKeyedCache(long maxWeight, ToLongFunction<V> weigher, BiConsumer<String, V> evictionListener) {
+        this.cache = new LruCache<>(maxWeight, weigher, this::evicted);
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Retourne la valeur associée à la clé, ou {@code null}.
+     */
+    public V get(String key) {
+        return cache.get(key);
+    }
+
+    public boolean contains(String key) {
+        return cache.get(key) != null;
+    }
+
+    /**
+     * Ajoute une entrée du CV, ou rattache au CV l'entrée déjà présente pour cette clé.
+     * Une valeur plus lourde que la limite totale n'est pas conservée.
+     */
+    public synchronized void put(String cvId, String key, V value) {
+        if (cache.get(key) == null) {
+            cache.put(key, value);
+            if (cache.get(key) == null) {
+                return;
+            }
+        }
+        keysByCv.computeIfAbsent(cvId, id -> new HashSet<>()).add(key);
+        cvsByKey.computeIfAbsent(key, k -> new HashSet<>()).add(cvId);
+    }
+
+    /**
+     * Retire une entrée, pour tous les CV qui la partagent.
+     */
+    public synchronized void remove(String key) {
+        cache.remove(key);
+        unindex(key);
+    }
+
+    /**
+     * Détache toutes les entrées du CV ; celles qu'aucun autre CV ne partage sont retirées.
+     *
+     * @return Nombre d'entrées retirées
+     */
+    public synchronized int invalidate(String cvId) {
+        Set<String> keys = keysByCv.remove(cvId);
+        if (keys == null) {
+            return 0;
+        }
+        int removed = 0;
+        for (String key : keys) {
+            Set<String> cvIds = cvsByKey.get(key);
+            cvIds.remove(cvId);
+            if (cvIds.isEmpty()) {
+                cvsByKey.remove(key);
+                cache.remove(key);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long weight() {
+        return cache.weight();
+    }
+
+    /**
+     * Appelé par le cache LRU (sous le verrou de {@link #put}) lors d'une éviction.
+     */
+    private void evicted(String key, V value) {
+        unindex(key);
+        if (evictionListener != null) {
+            evictionListener.accept(key, value);
+        }
+    }
+
+    private void unindex(String key) {
+        Set<String> cvIds = cvsByKey.remove(key);
+        if (cvIds == null) {
+            return;
+        }
+        for (String cvId : cvIds) {
+            Set<String> keys = keysByCv.get(cvId);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByCv.remove(cvId);
+            }
+        }
+    }
+}
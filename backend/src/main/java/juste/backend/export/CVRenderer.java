@@ -0,0 +1,30 @@
+package juste.backend.export;
+
+import java.io.OutputStream;
+
+/**
+ * Rendu d'un CV dans un format donné, écrit directement dans un flux.
+ * Les implémentations partagent le modèle de sections ({@link juste.backend.export.layout.LayoutPlan})
+ * et la palette ({@link RenderPalette}) ; elles ne font aucun accès à la base ni au cache.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public interface CVRenderer {
+
+    RenderFormat getFormat();
+
+    /**
+     * Rend l'export dans le flux fourni, qui n'est pas fermé.
+     */
+    default void render(PreparedExport export, OutputStream out) {
+        render(export, out, RenderDeadline.none());
+    }
+
+    /**
+     * Rend l'export dans le flux fourni, qui n'est pas fermé, en vérifiant l'échéance entre
+     * deux sections : un rendu annulé ou hors délai s'arrête par une
+     * {@link juste.backend.exceptions.RenderAbortedException}.
+     */
+    void render(PreparedExport export, OutputStream out, RenderDeadline deadline);
+}
@@ -0,0 +1,33 @@
+package juste.backend.export;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sélectionne le moteur de rendu d'un format.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Component
+public class CVRendererRegistry {
+
+    private final Map<RenderFormat, CVRenderer> renderers = new EnumMap<>(RenderFormat.class);
+
+    public CVRendererRegistry(List<CVRenderer> renderers) {
+        for (CVRenderer renderer : renderers) {
+            this.renderers.put(renderer.getFormat(), renderer);
+        }
+    }
+
+    public CVRenderer get(RenderFormat format) {
+        CVRenderer renderer = renderers.get(format);
+        if (renderer == null) {
+            throw new IllegalStateException("Aucun moteur de rendu pour le format " + format);
+        }
+        return renderer;
+    }
+}
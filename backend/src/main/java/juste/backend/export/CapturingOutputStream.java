@@ -0,0 +1,56 @@
+package juste.backend.export;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Transmet les octets au flux cible tout en conservant une copie dans le tampon fourni,
+ * tant que celle-ci ne dépasse pas la limite fixée. Au-delà, la copie est abandonnée
+ * et le tampon rendu à son pool.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public class CapturingOutputStream extends FilterOutputStream {
+
+    private final int limit;
+    private RenderBuffer capture;
+
+    public CapturingOutputStream(OutputStream out, RenderBuffer capture, int limit) {
+        super(out);
+        this.capture = capture;
+        this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        if (reserve(1)) {
+            capture.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        if (reserve(len)) {
+            capture.write(b, off, len);
+        }
+    }
+
+    /**
+     * Copie des octets écrits, ou {@code null} si la limite a été dépassée.
+     */
+    public byte[] captured() {
+        return capture != null ? capture.toByteArray() : null;
+    }
+
+    private boolean reserve(int len) {
+        if (capture != null && capture.size() + len > limit) {
+            capture.close();
+            capture = null;
+        }
+        return capture != null;
+    }
+}
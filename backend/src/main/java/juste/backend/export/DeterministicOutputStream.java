@@ -0,0 +1,121 @@
+package juste.backend.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rend reproductibles les octets écrits par iText à la fermeture du document : l'identifiant
+ * du fichier ({@code /ID} du trailer) et les préfixes de sous-ensemble des polices
+ * ({@code ABCDEF+DejaVuSans}), tirés au hasard, sont remplacés par des valeurs dérivées de la
+ * clé fournie. Les remplacements gardent la même longueur, la table des références reste valide.
+ * <p>
+ * Le flux transmet les octets tels quels jusqu'à {@link #hold()} ; ce qui suit (polices
+ * embarquées, catalogue, trailer) est retenu puis écrit, corrigé, par {@link #release()}.
+ * Avec le profil {@link OutputProfile#COMPACT}, les dictionnaires de police sont compressés
+ * dans des flux d'objets et leurs préfixes ne peuvent pas être corrigés
+ * ({@link OutputProfile#isDeterministic()}).
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public class DeterministicOutputStream extends FilterOutputStream {
+
+    private static final Pattern FILE_ID =
+            Pattern.compile("/ID\\s*\\[\\s*<([0-9A-Fa-f]{32})>\\s*<([0-9A-Fa-f]{32})>\\s*]");
+    private static final Pattern SUBSET_TAG =
+            Pattern.compile("/(?:BaseFont|FontName)\\s*/([A-Z]{6})\\+([^\\s/<>\\[\\]()]+)");
+
+    private final String key;
+    private ByteArrayOutputStream held;
+
+    public DeterministicOutputStream(OutputStream out, String key) {
+        super(out);
+        this.key = key;
+    }
+
+    /**
+     * Retient les octets écrits à partir de maintenant, jusqu'à {@link #release()}.
+     */
+    public void hold() {
+        held = new ByteArrayOutputStream();
+    }
+
+    /**
+     * Écrit dans le flux cible les octets retenus, après correction.
+     */
+    public void release() throws IOException {
+        if (held == null) {
+            return;
+        }
+        // ISO-8859-1 : un caractère par octet, les flux binaires sont restitués à l'identique
+        String content = held.toString(StandardCharsets.ISO_8859_1);
+        held = null;
+        out.write(normalize(content).getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (held != null) {
+            held.write(b);
+        } else {
+            out.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (held != null) {
+            held.write(b, off, len);
+        } else {
+            out.write(b, off, len);
+        }
+    }
+
+    String normalize(String content) {
+        StringBuilder result = new StringBuilder(content);
+
+        Map<String, String> tags = new HashMap<>();
+        Matcher subset = SUBSET_TAG.matcher(content);
+        while (subset.find()) {
+            String tag = tags.computeIfAbsent(subset.group(1) + "+" + subset.group(2),
+                    font -> subsetTag(subset.group(2)));
+            result.replace(subset.start(1), subset.end(1), tag);
+        }
+
+        Matcher fileId = FILE_ID.matcher(content);
+        if (fileId.find()) {
+            // Document jamais modifié : les deux parties de l'identifiant sont égales
+            String id = HexFormat.of().formatHex(digest(key), 0, 16);
+            result.replace(fileId.start(1), fileId.end(1), id);
+            result.replace(fileId.start(2), fileId.end(2), id);
+        }
+        return result.toString();
+    }
+
+    private String subsetTag(String fontName) {
+        byte[] digest = digest(key + "/" + fontName);
+        char[] tag = new char[6];
+        for (int i = 0; i < tag.length; i++) {
+            tag[i] = (char) ('A' + Math.floorMod(digest[i], 26));
+        }
+        return new String(tag);
+    }
+
+    private static byte[] digest(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package juste.backend.export;
+
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.pdf.BaseFont;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Polices TrueType Unicode (DejaVu Sans) livrées dans {@code resources/fonts}, embarquées
+ * dans les PDF avec sous-ensemble de glyphes : un document ne contient que les glyphes qu'il utilise.
+ * Chaque fichier est analysé une seule fois par JVM ; les {@link BaseFont} obtenues sont
+ * partagées en lecture seule par tous les rendus (les glyphes utilisés sont suivis par le
+ * PdfWriter de chaque document, pas par la police).
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public final class EmbeddedFonts {
+
+    private static final String REGULAR = "DejaVuSans.ttf";
+    private static final String BOLD = "DejaVuSans-Bold.ttf";
+
+    private EmbeddedFonts() {
+    }
+
+    public static BaseFont regular() {
+        return Holder.REGULAR_FONT;
+    }
+
+    public static BaseFont bold() {
+        return Holder.BOLD_FONT;
+    }
+
+    private static BaseFont load(String fileName) {
+        try (InputStream in = EmbeddedFonts.class.getResourceAsStream("/fonts/" + fileName)) {
+            if (in == null) {
+                throw new IllegalStateException("Police introuvable: fonts/" + fileName);
+            }
+            BaseFont font = BaseFont.createFont(fileName, BaseFont.IDENTITY_H, BaseFont.EMBEDDED,
+                    BaseFont.NOT_CACHED, in.readAllBytes(), null);
+            font.setSubset(true);
+            return font;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Police illisible: fonts/" + fileName, e);
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Police invalide: fonts/" + fileName, e);
+        }
+    }
+
+    /**
+     * Chargement à la première utilisation, garanti unique par l'initialisation de classe.
+     */
+    private static final class Holder {
+        private static final BaseFont REGULAR_FONT = load(REGULAR);
+        private static final BaseFont BOLD_FONT = load(BOLD);
+    }
+}
@@ -0,0 +1,54 @@
+package juste.backend.export;
+
+import juste.backend.enums.ExportJobStatus;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Tâche d'export PDF asynchrone, conservée en mémoire jusqu'à son expiration.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Getter
+public class ExportJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final PreparedExport export;
+    private final String userEmail;
+    private final Instant createdAt = Instant.now();
+
+    private volatile ExportJobStatus status = ExportJobStatus.PENDING;
+    private volatile Instant startedAt;
+    private volatile Instant completedAt;
+    private volatile byte[] result;
+    private volatile String error;
+
+    public ExportJob(PreparedExport export, String userEmail) {
+        this.export = export;
+        this.userEmail = userEmail;
+    }
+
+    public void markRunning() {
+        startedAt = Instant.now();
+        status = ExportJobStatus.RUNNING;
+    }
+
+    public void markCompleted(byte[] pdf) {
+        result = pdf;
+        completedAt = Instant.now();
+        status = ExportJobStatus.COMPLETED;
+    }
+
+    public void markFailed(String message) {
+        error = message;
+        completedAt = Instant.now();
+        status = ExportJobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == ExportJobStatus.COMPLETED || status == ExportJobStatus.FAILED;
+    }
+}
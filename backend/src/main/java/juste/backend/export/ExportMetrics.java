@@ -0,0 +1,118 @@
+package juste.backend.export;
+
+import com.itextpdf.text.ExceptionConverter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import juste.backend.enums.Theme;
+import juste.backend.exceptions.RenderAbortedException;
+import juste.backend.export.layout.SectionType;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesures du pipeline d'export : durée de chaque étape (chargement, sections, fermeture
+ * du document), taille produite, échecs par type d'exception et rendus interrompus.
+ * Les tags se limitent à la langue, au thème, à la section et au profil : jamais d'identifiant
+ * d'utilisateur ni de CV.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Component
+public class ExportMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public ExportMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Tags tags(Locale locale, Theme theme) {
+        return Tags.of(
+                "locale", locale.getLanguage(),
+                "theme", theme != null ? theme.name().toLowerCase(Locale.ROOT) : "none");
+    }
+
+    /**
+     * Chargement du CV depuis MongoDB.
+     */
+    public void recordLoad(Tags tags, long nanos) {
+        Timer.builder("cvpro.export.load")
+                .description("Chargement du CV à exporter")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Construction et mise en page d'une section.
+     */
+    public void recordSection(SectionType section, Tags tags, long nanos) {
+        Timer.builder("cvpro.export.section")
+                .description("Construction et mise en page d'une section du PDF")
+                .tags(tags)
+                .tag("section", section.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Fermeture du document : écriture des dernières pages, des polices et de la table de références.
+     */
+    public void recordClose(Tags tags, long nanos) {
+        Timer.builder("cvpro.export.close")
+                .description("Fermeture du document PDF")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOutputSize(Tags tags, OutputProfile profile, long bytes) {
+        DistributionSummary.builder("cvpro.export.output.size")
+                .description("Taille des PDF produits")
+                .baseUnit("bytes")
+                .tags(tags)
+                .tag("profile", profile.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * Rendu interrompu (client parti ou échéance dépassée), avec une estimation du temps de
+     * rendu épargné : la part des sections restantes, au rythme des sections déjà construites.
+     */
+    public void recordAborted(Tags tags, RenderAbortedException.Reason reason, long savedNanos) {
+        String reasonTag = reason.name().toLowerCase(Locale.ROOT);
+        Counter.builder("cvpro.export.aborted")
+                .description("Rendus interrompus avant la fin")
+                .tags(tags)
+                .tag("reason", reasonTag)
+                .register(meterRegistry)
+                .increment();
+        Timer.builder("cvpro.export.aborted.saved")
+                .description("Temps de rendu épargné par les interruptions (estimation)")
+                .tags(tags)
+                .tag("reason", reasonTag)
+                .register(meterRegistry)
+                .record(savedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFailure(Tags tags, Throwable error) {
+        // iText enveloppe les IOException (client déconnecté, ...) dans ExceptionConverter
+        Throwable cause = error instanceof ExceptionConverter converter && converter.getException() != null
+                ? converter.getException()
+                : error;
+
+        Counter.builder("cvpro.export.failures")
+                .description("Rendus PDF en échec")
+                .tags(tags)
+                .tag("exception", cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+}
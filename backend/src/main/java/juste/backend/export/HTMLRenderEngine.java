@@ -0,0 +1,126 @@
+package juste.backend.export;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Font;
+import juste.backend.document.CV;
+import juste.backend.enums.Theme;
+import juste.backend.export.layout.LabelTables;
+import juste.backend.export.layout.LayoutPlan;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import juste.backend.export.layout.RenderContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.web.util.HtmlUtils.htmlEscape;
+
+/**
+ * Moteur de rendu HTML : mêmes sections, même ordre, mêmes libellés et mêmes couleurs
+ * que le PDF, écrits directement dans le flux. Sert à l'aperçu pendant l'édition.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HTMLRenderEngine implements CVRenderer {
+
+    private static final String HTML_ENCODING = "UTF-8";
+
+    private final LabelTables labelTables;
+    private final RenderPaletteCache paletteCache;
+    private final LayoutPlanRegistry layoutPlans;
+
+    @Override
+    public RenderFormat getFormat() {
+        return RenderFormat.HTML;
+    }
+
+    @Override
+    public void render(PreparedExport export, OutputStream out, RenderDeadline deadline) {
+        CV cv = export.cv();
+
+        RenderPalette palette = paletteCache.get(cv.getStyling());
+        LayoutPlan layout = layoutPlans.get(palette.getTheme());
+        RenderContext context = new RenderContext(palette, layout, export.locale(), labelTables.get(export.locale()));
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+            writer.write("<!DOCTYPE html><html lang=\"");
+            writer.write(export.locale().getLanguage());
+            writer.write("\"><head><meta charset=\"UTF-8\"><title>");
+            writer.write(htmlEscape(cv.getTitle() != null ? cv.getTitle() : "CV", HTML_ENCODING));
+            writer.write("</title><style>");
+            writer.write(stylesheet(palette, layout));
+            writer.write("</style></head><body>");
+
+            for (LayoutPlan.Step step : layout.getSteps()) {
+                if (step.section().isPresent(cv)) {
+                    deadline.check();
+                    step.htmlWriter().write(cv, context, writer);
+                }
+            }
+
+            writer.write("</body></html>");
+            writer.flush();
+
+        } catch (IOException e) {
+            log.error("Erreur lors de la génération du HTML pour le CV: {}", cv.getId(), e);
+            throw new RuntimeException("Erreur lors de la génération du HTML", e);
+        }
+    }
+
+    /**
+     * Feuille de style équivalente aux polices, couleurs et espacements du PDF.
+     */
+    private static String stylesheet(RenderPalette palette, LayoutPlan layout) {
+        String background = palette.getTheme() == Theme.LIGHT ? "#ffffff" : "#1f2937";
+
+        return "body{font-family:\"DejaVu Sans\",Verdana,sans-serif;max-width:515pt;margin:50pt auto;padding:0 40pt;"
+                + "background:" + background + "}"
+                + "h1,h2,h3,h4,p,ul{margin:0}"
+                + "header{text-align:center}"
+                + ".name{" + css(palette.getNameFont()) + "}"
+                + ".job-title{" + css(palette.getJobTitleFont()) + ";margin-bottom:10pt}"
+                + ".contact{" + css(palette.getContactFont()) + ";margin-bottom:5pt}"
+                + "hr{border:0;border-top:1pt solid " + hex(palette.getPrimaryColor()) + "}"
+                + ".section-title{" + css(palette.getSectionTitleFont())
+                + ";margin:" + layout.getTitleSpacingBefore() + "pt 0 " + layout.getTitleSpacingAfter() + "pt}"
+                + ".content{" + css(palette.getContentFont()) + ";text-align:justify;margin-bottom:10pt}"
+                + ".item{margin-bottom:10pt}"
+                + ".item-title{" + css(palette.getItemTitleFont()) + "}"
+                + ".item-subtitle{" + css(palette.getItemSubtitleFont()) + "}"
+                + ".minor-item-title{" + css(palette.getMinorItemTitleFont()) + "}"
+                + ".minor-item-subtitle{" + css(palette.getMinorItemSubtitleFont()) + "}"
+                + ".category{" + css(palette.getCategoryFont()) + "}"
+                + ".date{" + css(palette.getDateFont()) + ";margin-bottom:5pt}"
+                + ".body{" + css(palette.getBodyFont()) + ";margin-bottom:5pt}"
+                + "ul{padding-left:" + layout.getListIndentation() + "pt;list-style-type:\""
+                + layout.getListSymbol().replace("\\", "\\\\").replace("\"", "\\\"") + " \"}";
+    }
+
+    private static String css(Font font) {
+        // La graisse est portée par la police elle-même (DejaVuSans-Bold), pas par le style
+        String name = font.getBaseFont() != null ? font.getBaseFont().getPostscriptFontName() : "";
+        boolean bold = font.isBold() || name.contains("Bold");
+        boolean italic = font.isItalic() || name.contains("Oblique") || name.contains("Italic");
+
+        return "font-size:" + font.getSize() + "pt"
+                + (bold ? ";font-weight:bold" : "")
+                + (italic ? ";font-style:italic" : "")
+                + ";color:" + hex(font.getColor());
+    }
+
+    private static String hex(BaseColor color) {
+        return String.format("#%02x%02x%02x", color.getRed(), color.getGreen(), color.getBlue());
+    }
+}
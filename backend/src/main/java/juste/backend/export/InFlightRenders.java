@@ -0,0 +1,123 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Rendus en cours, indexés par clé de rendu ({@link PreparedExport#renderKey()} : CV, version du
+ * contenu, locale, format et profil). Une demande identique à un rendu en cours (double clic,
+ * client qui réessaie) s'y rattache et reçoit le même résultat au lieu de relancer le moteur.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Component
+public class InFlightRenders {
+
+    private static final long CANCELLATION_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Map<String, CompletableFuture<byte[]>> renders = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public InFlightRenders(MeterRegistry meterRegistry) {
+        this.coalesced = Counter.builder("cvpro.export.coalesced")
+                .description("Demandes rattachées à un rendu identique déjà en cours")
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.inflight", renders, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rejoint le rendu en cours pour cette clé, ou en devient responsable s'il n'y en a pas.
+     * Le vol doit être fermé (try-with-resources) : s'il n'a pas été complété par son
+     * responsable, les demandes rattachées sont libérées sans résultat.
+     */
+    public Flight join(String renderKey) {
+        CompletableFuture<byte[]> mine = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = renders.putIfAbsent(renderKey, mine);
+        if (running != null) {
+            coalesced.increment();
+            return new Flight(renderKey, running, false);
+        }
+        return new Flight(renderKey, mine, true);
+    }
+
+    public boolean isRunning(String renderKey) {
+        return renders.containsKey(renderKey);
+    }
+
+    public double coalescedCount() {
+        return coalesced.count();
+    }
+
+    public final class Flight implements AutoCloseable {
+
+        private final String renderKey;
+        private final CompletableFuture<byte[]> result;
+        private final boolean leader;
+
+        private Flight(String renderKey, CompletableFuture<byte[]> result, boolean leader) {
+            this.renderKey = renderKey;
+            this.result = result;
+            this.leader = leader;
+        }
+
+        /**
+         * Indique si cette demande doit faire le rendu elle-même.
+         */
+        public boolean isLeader() {
+            return leader;
+        }
+
+        /**
+         * Publie le résultat aux demandes rattachées ({@code null} s'il n'a pas pu être conservé).
+         */
+        public void complete(byte[] content) {
+            result.complete(content);
+        }
+
+        /**
+         * Attend le résultat du responsable, au plus jusqu'à l'échéance de la demande rattachée et
+         * tant qu'elle n'est pas annulée (client parti). Retourne {@code null} s'il a échoué ou n'a
+         * rien conservé : l'appelant fait alors le rendu lui-même.
+         *
+         * @throws juste.backend.exceptions.RenderAbortedException si l'échéance est atteinte ou la demande annulée
+         */
+        public byte[] await(RenderDeadline deadline) {
+            try {
+                while (true) {
+                    deadline.check();
+                    try {
+                        return result.get(Math.min(CANCELLATION_POLL_NANOS, deadline.remainingNanos()),
+                                TimeUnit.NANOSECONDS);
+                    } catch (TimeoutException e) {
+                        // Échéance et annulation vérifiées au tour suivant
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Attente d'un rendu en cours interrompue", e);
+            } catch (ExecutionException | CancellationException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (leader) {
+                result.cancel(false);
+                renders.remove(renderKey, result);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package juste.backend.export;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache LRU borné par un poids total (nombre d'entrées, octets, ...).
+ * Les entrées les moins récemment utilisées sont évincées dès que le poids dépasse la limite.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public class LruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final BiConsumer<K, V> evictionListener;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+
+    /**
+     * Cache borné en nombre d'entrées.
+     */
+    public LruCache(long maxEntries) {
+        this(maxEntries, value -> 1L, null);
+    }
+
+    public LruCache(long maxWeight, ToLongFunction<V> weigher, BiConsumer<K, V> evictionListener) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.evictionListener = evictionListener;
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Ajoute une entrée. Une valeur plus lourde que la limite totale n'est pas conservée.
+     */
+    public synchronized void put(K key, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return;
+        }
+
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            weight -= weigher.applyAsLong(previous);
+        }
+        weight += valueWeight;
+
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Map.Entry<K, V> eldest = iterator.next();
+            iterator.remove();
+            weight -= weigher.applyAsLong(eldest.getValue());
+            if (evictionListener != null) {
+                evictionListener.accept(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    public synchronized V remove(K key) {
+        V removed = entries.remove(key);
+        if (removed != null) {
+            weight -= weigher.applyAsLong(removed);
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+}
@@ -0,0 +1,57 @@
+package juste.backend.export;
+
+import com.itextpdf.text.pdf.PdfStream;
+import com.itextpdf.text.pdf.PdfWriter;
+
+/**
+ * Réglages de sortie du PdfWriter : compromis entre taille du fichier et temps de rendu.
+ * Les mesures comparatives se font avec {@code PDFOutputProfileBenchmark} (profil Maven {@code benchmark}).
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public enum OutputProfile {
+
+    /**
+     * Réglages par défaut d'iText (comportement historique).
+     */
+    STANDARD(false, PdfStream.DEFAULT_COMPRESSION),
+
+    /**
+     * Compression minimale des flux : rendu le plus rapide, fichier plus gros.
+     */
+    FAST(false, PdfStream.BEST_SPEED),
+
+    /**
+     * Compression complète (flux d'objets et table de références compressée, PDF 1.5)
+     * au niveau maximal : fichier le plus petit, pour les connexions lentes.
+     */
+    COMPACT(true, PdfStream.BEST_COMPRESSION);
+
+    private final boolean fullCompression;
+    private final int compressionLevel;
+
+    OutputProfile(boolean fullCompression, int compressionLevel) {
+        this.fullCompression = fullCompression;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Indique si un même export donne toujours les mêmes octets avec ce profil. Avec la compression
+     * complète, les préfixes de sous-ensemble des polices, tirés au hasard par iText, sont dans des
+     * flux d'objets compressés où {@link DeterministicOutputStream} ne peut pas les corriger.
+     */
+    public boolean isDeterministic() {
+        return !fullCompression;
+    }
+
+    /**
+     * Applique le profil au writer, avant l'ouverture du document.
+     */
+    public void configure(PdfWriter writer) {
+        if (fullCompression) {
+            writer.setFullCompression();
+        }
+        writer.setCompressionLevel(compressionLevel);
+    }
+}
@@ -0,0 +1,101 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.events.CVChangedEvent;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache des PDF rendus, adressé par la clé de rendu ({@link PreparedExport#renderKey()} :
+ * empreinte du contenu du CV et profil de sortie), préfixée par la version des documents
+ * ({@link LayoutPlanRegistry#getVersion()}) : après un rechargement des libellés, les anciens
+ * rendus ne sont plus servis et sortent du cache par éviction.
+ * Borné en octets avec éviction LRU, et invalidé à chaque modification du CV.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Component
+public class PDFRenderCache {
+
+    private final CVKeyedCache<byte[]> cache;
+    private final LayoutPlanRegistry layoutPlans;
+    private final Counter hits;
+    private final Counter misses;
+
+    public PDFRenderCache(ExportProperties exportProperties, LayoutPlanRegistry layoutPlans,
+                          MeterRegistry meterRegistry) {
+        this.layoutPlans = layoutPlans;
+        this.cache = new CVKeyedCache<>(exportProperties.getCache().getMaxBytes(), pdf -> pdf.length, null);
+
+        this.hits = Counter.builder("cvpro.export.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cvpro.export.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.cache.bytes", cache, CVKeyedCache::weight)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.cache.entries", cache, CVKeyedCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retourne le PDF associé à l'empreinte, ou {@code null} s'il n'est pas en cache.
+     * Le tableau retourné est partagé et ne doit pas être modifié.
+     */
+    public byte[] get(String contentHash) {
+        byte[] pdf = cache.get(versioned(contentHash));
+        if (pdf == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return pdf;
+    }
+
+    /**
+     * Indique si l'empreinte est en cache, sans compter de hit ni de miss.
+     */
+    public boolean contains(String contentHash) {
+        return cache.contains(versioned(contentHash));
+    }
+
+    public void put(String cvId, String contentHash, byte[] pdf) {
+        cache.put(cvId, versioned(contentHash), pdf);
+    }
+
+    /**
+     * Retire tous les rendus d'un CV, toutes locales confondues.
+     */
+    public void invalidate(String cvId) {
+        int removed = cache.invalidate(cvId);
+        if (removed > 0) {
+            log.debug("{} rendu(s) PDF invalidé(s) pour le CV: {}", removed, cvId);
+        }
+    }
+
+    @EventListener
+    public void onCVChanged(CVChangedEvent event) {
+        invalidate(event.cvId());
+    }
+
+    public double hitCount() {
+        return hits.count();
+    }
+
+    public double missCount() {
+        return misses.count();
+    }
+
+    private String versioned(String contentHash) {
+        return layoutPlans.getVersion() + ':' + contentHash;
+    }
+}
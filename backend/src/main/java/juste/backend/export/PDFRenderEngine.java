@@ -0,0 +1,182 @@
+package juste.backend.export;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.pdf.PdfDate;
+import com.itextpdf.text.pdf.PdfDictionary;
+import com.itextpdf.text.pdf.PdfName;
+import com.itextpdf.text.pdf.PdfWriter;
+import io.micrometer.core.instrument.Tags;
+import juste.backend.document.CV;
+import juste.backend.exceptions.RenderAbortedException;
+import juste.backend.export.layout.LabelTables;
+import juste.backend.export.layout.LayoutPlan;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import juste.backend.export.layout.RenderContext;
+import juste.backend.export.layout.SectionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Moteur de rendu iText : transforme un CV en PDF en parcourant le plan de mise en page
+ * de son thème. Ne fait aucun accès à la base ni au cache, ce qui le rend utilisable
+ * hors contexte HTTP.
+ * <p>
+ * Le rendu est reproductible : un même export donne toujours les mêmes octets (sauf avec un
+ * profil non déterministe, {@link OutputProfile#isDeterministic()}). Les dates du document sont
+ * fixes, et l'identifiant du fichier comme les préfixes des polices sont dérivés de la clé de
+ * rendu ({@link DeterministicOutputStream}).
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PDFRenderEngine implements CVRenderer {
+
+    /**
+     * Dates de création et de modification de tous les documents produits.
+     */
+    static final ZonedDateTime DOCUMENT_DATE = Instant.EPOCH.atZone(ZoneOffset.UTC);
+
+    private final LabelTables labelTables;
+    private final RenderPaletteCache paletteCache;
+    private final LayoutPlanRegistry layoutPlans;
+    private final SectionFragmentCache fragmentCache;
+    private final SectionBuildPool sectionBuildPool;
+    private final ExportMetrics metrics;
+
+    @Override
+    public RenderFormat getFormat() {
+        return RenderFormat.PDF;
+    }
+
+    /**
+     * Rend le CV en PDF, directement dans le flux fourni (qui n'est pas fermé).
+     */
+    public void render(CV cv, Locale locale, OutputProfile profile, OutputStream out) {
+        render(PreparedExport.of(cv, locale, profile), out);
+    }
+
+    @Override
+    public void render(PreparedExport export, OutputStream out, RenderDeadline deadline) {
+        CV cv = export.cv();
+        Locale locale = export.locale();
+        OutputProfile profile = export.profile();
+        String cvId = cv.getId();
+
+        // Polices et couleurs du CV, mise en page de son thème
+        RenderPalette palette = paletteCache.get(cv.getStyling());
+        LayoutPlan layout = layoutPlans.get(palette.getTheme());
+        Tags tags = metrics.tags(locale, layout.getTheme());
+
+        long renderStart = System.nanoTime();
+        int renderedItems = 0;
+        try {
+            CountingOutputStream counter = new CountingOutputStream(out);
+            DeterministicOutputStream deterministic = new DeterministicOutputStream(counter, export.renderKey());
+            Document document = new Document(PageSize.A4, 40, 40, 50, 50);
+            PdfWriter writer = PdfWriter.getInstance(document, deterministic);
+            writer.setCloseStream(false);
+            profile.configure(writer);
+
+            document.open();
+            stampDates(writer.getInfo());
+
+            RenderContext context = new RenderContext(palette, layout, locale, labelTables.get(locale));
+
+            List<LayoutPlan.Step> steps = layout.getSteps().stream()
+                    .filter(step -> step.section().isPresent(cv))
+                    .toList();
+
+            // Sections d'un long CV construites en parallèle, ajoutées ensuite dans l'ordre du plan
+            List<Future<BuiltSection>> forked = sectionBuildPool.shouldFork(cv) && steps.size() > 1
+                    ? steps.stream().map(step -> sectionBuildPool.fork(() -> build(step, cv, context))).toList()
+                    : null;
+            try {
+                for (int i = 0; i < steps.size(); i++) {
+                    // Client parti ou rendu trop long : les sections restantes ne sont pas construites
+                    deadline.check();
+                    BuiltSection built = forked != null ? join(forked.get(i)) : build(steps.get(i), cv, context);
+                    long start = System.nanoTime();
+                    for (Element element : built.elements()) {
+                        document.add(element);
+                    }
+                    metrics.recordSection(steps.get(i).section(), tags,
+                            built.buildNanos() + System.nanoTime() - start);
+                    renderedItems += steps.get(i).section().itemCount(cv);
+                }
+            } finally {
+                if (forked != null) {
+                    forked.forEach(task -> task.cancel(false));
+                }
+            }
+
+            deadline.check();
+            long closeStart = System.nanoTime();
+            deterministic.hold();
+            document.close();
+            deterministic.release();
+            metrics.recordClose(tags, System.nanoTime() - closeStart);
+            metrics.recordOutputSize(tags, profile, counter.count());
+
+            log.info("PDF généré avec succès pour le CV: {}", cvId);
+
+        } catch (RenderAbortedException e) {
+            long elapsed = System.nanoTime() - renderStart;
+            int remainingItems = SectionType.totalItemCount(cv) - renderedItems;
+            long saved = renderedItems > 0 ? (long) ((double) elapsed * remainingItems / renderedItems) : 0;
+            metrics.recordAborted(tags, e.getReason(), saved);
+            log.info("Rendu du PDF interrompu pour le CV: {} ({})", cvId, e.getReason());
+            throw e;
+        } catch (Exception e) {
+            metrics.recordFailure(tags, e);
+            log.error("Erreur lors de la génération du PDF pour le CV: {}", cvId, e);
+            throw new RuntimeException("Erreur lors de la génération du PDF", e);
+        }
+    }
+
+    /**
+     * Remplace les dates de création et de modification, qu'iText fixe à l'heure du rendu,
+     * par une date fixe : rien hors de la clé de rendu (pas même la date de modification
+     * du CV) ne doit changer les octets produits.
+     */
+    private static void stampDates(PdfDictionary info) {
+        PdfDate pdfDate = new PdfDate(GregorianCalendar.from(DOCUMENT_DATE));
+        info.put(PdfName.CREATIONDATE, pdfDate);
+        info.put(PdfName.MODDATE, pdfDate);
+    }
+
+    /**
+     * Éléments de la section (une section inchangée reprend ceux du rendu précédent).
+     */
+    private BuiltSection build(LayoutPlan.Step step, CV cv, RenderContext context) {
+        long start = System.nanoTime();
+        List<Element> elements = fragmentCache.get(step, cv, context);
+        return new BuiltSection(elements, System.nanoTime() - start);
+    }
+
+    private static BuiltSection join(Future<BuiltSection> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private record BuiltSection(List<Element> elements, long buildNanos) {
+    }
+}
@@ -0,0 +1,217 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.exceptions.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contrôle d'admission des rendus PDF : un nombre fixe de rendus simultanés,
+ * une courte file d'attente bornée, et un plafond par utilisateur pour qu'un
+ * seul compte ne puisse pas monopoliser tous les permis.
+ * Les demandes refusées donnent une réponse 503 avec l'en-tête Retry-After ; les entrées
+ * d'une archive déjà acceptée attendent leur permis au lieu d'être refusées.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Component
+public class PDFRenderLimiter {
+
+    private static final long SLOT_POLL_MILLIS = 100;
+
+    private final ExportProperties.Limiter properties;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger queuedAccepted = new AtomicInteger();
+    private final Map<String, Integer> inFlightByUser = new ConcurrentHashMap<>();
+    private final Object slotReleased = new Object();
+    private final Counter userLimitRejections;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+    private final Counter backgroundSkips;
+
+    public PDFRenderLimiter(ExportProperties exportProperties, MeterRegistry meterRegistry) {
+        this.properties = exportProperties.getLimiter();
+        this.permits = new Semaphore(properties.getMaxConcurrent(), true);
+
+        Gauge.builder("cvpro.export.limiter.permits.used", this,
+                        limiter -> limiter.properties.getMaxConcurrent() - limiter.permits.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.limiter.permits.max", properties, ExportProperties.Limiter::getMaxConcurrent)
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.limiter.queued", this, PDFRenderLimiter::waiting)
+                .register(meterRegistry);
+        this.userLimitRejections = rejectionCounter(meterRegistry, "user_limit");
+        this.queueFullRejections = rejectionCounter(meterRegistry, "queue_full");
+        this.timeoutRejections = rejectionCounter(meterRegistry, "timeout");
+        this.backgroundSkips = rejectionCounter(meterRegistry, "background_busy");
+    }
+
+    /**
+     * Obtient un permis de rendu pour l'utilisateur, en attendant au plus
+     * {@code export.limiter.max-wait} si tous les permis sont pris.
+     *
+     * @param userKey Identifiant du propriétaire du CV (sert à l'équité entre comptes)
+     * @throws ServiceUnavailableException si la demande est refusée
+     */
+    public RenderPermit acquire(String userKey) {
+        String key = userKey != null ? userKey : "";
+
+        if (!reserveUserSlot(key)) {
+            userLimitRejections.increment();
+            throw reject("Trop d'exports simultanés pour ce compte");
+        }
+
+        try {
+            if (!permits.tryAcquire()) {
+                waitForPermit();
+            }
+        } catch (RuntimeException e) {
+            releaseUserSlot(key);
+            throw e;
+        }
+
+        return new RenderPermit(() -> {
+            permits.release();
+            releaseUserSlot(key);
+        });
+    }
+
+    /**
+     * Obtient un permis pour un rendu déjà accepté (entrée d'une archive ZIP en cours d'écriture,
+     * tâche d'export) : attend qu'un emplacement de l'utilisateur puis un permis se libèrent, sans
+     * file bornée, pendant au plus {@code export.limiter.max-queued-wait}. Ces demandes comptent
+     * parmi les demandes en attente, que les rendus d'arrière-plan laissent passer.
+     *
+     * @param userKey Identifiant du propriétaire du CV
+     * @throws ServiceUnavailableException si l'attente expire ou est interrompue (client parti)
+     */
+    public RenderPermit acquireQueued(String userKey) {
+        String key = userKey != null ? userKey : "";
+        long deadline = System.nanoTime() + properties.getMaxQueuedWait().toNanos();
+
+        queuedAccepted.incrementAndGet();
+        try {
+            while (!reserveUserSlot(key)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    timeoutRejections.increment();
+                    throw reject("Attente d'un permis de rendu trop longue");
+                }
+                synchronized (slotReleased) {
+                    // Attente bornée : une libération survenue entre le test et l'attente n'est pas perdue
+                    long millis = Math.min(SLOT_POLL_MILLIS, TimeUnit.NANOSECONDS.toMillis(remaining));
+                    slotReleased.wait(Math.max(1, millis));
+                }
+            }
+
+            try {
+                if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    releaseUserSlot(key);
+                    timeoutRejections.increment();
+                    throw reject("Attente d'un permis de rendu trop longue");
+                }
+            } catch (InterruptedException e) {
+                releaseUserSlot(key);
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("Export interrompu");
+        } finally {
+            queuedAccepted.decrementAndGet();
+        }
+
+        return new RenderPermit(() -> {
+            permits.release();
+            releaseUserSlot(key);
+        });
+    }
+
+    /**
+     * Permis pour un rendu d'arrière-plan (pré-rendu), sans attente ni emplacement utilisateur :
+     * il n'est accordé que si un permis est libre et qu'aucune demande interactive n'attend.
+     *
+     * @return Permis, ou {@code null} si le serveur est occupé (le rendu est alors abandonné)
+     */
+    public RenderPermit tryAcquireBackground() {
+        if (waiting() > 0 || !permits.tryAcquire()) {
+            backgroundSkips.increment();
+            return null;
+        }
+        return new RenderPermit(permits::release);
+    }
+
+    public int getMaxPerUser() {
+        return properties.getMaxPerUser();
+    }
+
+    /**
+     * Demandes en attente d'un permis : file bornée des demandes interactives et rendus déjà acceptés.
+     */
+    public int waiting() {
+        return queued.get() + queuedAccepted.get();
+    }
+
+    private void waitForPermit() {
+        if (queued.incrementAndGet() > properties.getMaxQueued()) {
+            queued.decrementAndGet();
+            queueFullRejections.increment();
+            throw reject("Trop d'exports en cours, veuillez réessayer dans quelques instants");
+        }
+
+        try {
+            if (!permits.tryAcquire(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                timeoutRejections.increment();
+                throw reject("Trop d'exports en cours, veuillez réessayer dans quelques instants");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("Export interrompu");
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private boolean reserveUserSlot(String key) {
+        boolean[] reserved = new boolean[1];
+        inFlightByUser.compute(key, (k, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= properties.getMaxPerUser()) {
+                return count;
+            }
+            reserved[0] = true;
+            return current + 1;
+        });
+        return reserved[0];
+    }
+
+    private void releaseUserSlot(String key) {
+        inFlightByUser.computeIfPresent(key, (k, count) -> count <= 1 ? null : count - 1);
+        synchronized (slotReleased) {
+            slotReleased.notifyAll();
+        }
+    }
+
+    private ServiceUnavailableException reject(String message) {
+        log.warn("Rendu PDF refusé: {}", message);
+        return new ServiceUnavailableException(message, properties.getRetryAfter().toSeconds());
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("cvpro.export.limiter.rejections")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
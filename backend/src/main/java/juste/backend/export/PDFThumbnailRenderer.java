@@ -0,0 +1,42 @@
+package juste.backend.export;
+
+import juste.backend.config.ExportProperties;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Rastérise la première page d'un PDF en PNG basse résolution (PDFBox : iText ne sait pas rastériser).
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Component
+public class PDFThumbnailRenderer {
+
+    private final float dpi;
+
+    public PDFThumbnailRenderer(ExportProperties exportProperties) {
+        this.dpi = exportProperties.getThumbnail().getDpi();
+    }
+
+    public byte[] render(byte[] pdf) {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            BufferedImage image = new PDFRenderer(document).renderImageWithDPI(0, dpi, ImageType.RGB);
+
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", png);
+            return png.toByteArray();
+
+        } catch (IOException e) {
+            throw new RuntimeException("Erreur lors de la génération de la miniature", e);
+        }
+    }
+}
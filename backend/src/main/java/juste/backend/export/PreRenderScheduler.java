@@ -0,0 +1,146 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.document.Preferences;
+import juste.backend.document.User;
+import juste.backend.events.CVChangedEvent;
+import juste.backend.repositories.CVRepository;
+import juste.backend.repositories.UserRepository;
+import juste.backend.services.IPDFExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rend le PDF d'un CV en arrière-plan après son enregistrement, dans la langue préférée
+ * de son propriétaire, pour que le téléchargement qui suit soit servi depuis le cache.
+ * Les enregistrements rapprochés d'un même CV sont regroupés en un seul rendu. Le pré-rendu
+ * passe après les exports demandés par les utilisateurs : il est abandonné si le serveur est occupé.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Component
+public class PreRenderScheduler {
+
+    private final CVRepository cvRepository;
+    private final UserRepository userRepository;
+    private final IPDFExportService pdfExportService;
+    private final ExportProperties.PreRender properties;
+    private final OutputProfile profile;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+    private final Counter rendered;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public PreRenderScheduler(CVRepository cvRepository,
+                              UserRepository userRepository,
+                              IPDFExportService pdfExportService,
+                              ExportProperties exportProperties,
+                              MeterRegistry meterRegistry) {
+        this.cvRepository = cvRepository;
+        this.userRepository = userRepository;
+        this.pdfExportService = pdfExportService;
+        this.properties = exportProperties.getPreRender();
+        this.profile = exportProperties.getOutput().getDownload();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("pdf-pre-render-"));
+
+        this.coalesced = preRenderCounter(meterRegistry, "coalesced");
+        this.rendered = preRenderCounter(meterRegistry, "rendered");
+        this.skipped = preRenderCounter(meterRegistry, "skipped");
+        this.failed = preRenderCounter(meterRegistry, "failed");
+    }
+
+    @EventListener
+    public void onCVChanged(CVChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        if (event.type() == CVChangedEvent.Type.DELETED) {
+            ScheduledFuture<?> previous = pending.remove(event.cvId());
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            return;
+        }
+
+        pending.compute(event.cvId(), (cvId, previous) -> {
+            // Un rendu pas encore démarré est remplacé par celui-ci
+            if (previous != null && previous.cancel(false)) {
+                coalesced.increment();
+            }
+
+            AtomicReference<ScheduledFuture<?>> self = new AtomicReference<>();
+            ScheduledFuture<?> future = scheduler.schedule(() -> {
+                pending.remove(cvId, self.get());
+                preRender(cvId);
+            }, properties.getDelay().toMillis(), TimeUnit.MILLISECONDS);
+            self.set(future);
+            return future;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void preRender(String cvId) {
+        try {
+            CV cv = cvRepository.findById(cvId).orElse(null);
+            if (cv == null) {
+                return;
+            }
+
+            Locale locale = preferredLocale(cv.getUserId());
+            // Basse priorité : serveur occupé, le téléchargement rendra le PDF à la demande
+            if (!pdfExportService.preRender(PreparedExport.of(cv, locale, profile))) {
+                skipped.increment();
+                return;
+            }
+            rendered.increment();
+            log.debug("PDF du CV {} pré-rendu en langue: {}", cvId, locale.getLanguage());
+
+        } catch (Exception e) {
+            // Le téléchargement rendra le PDF à la demande
+            failed.increment();
+            log.warn("Échec du pré-rendu du CV {}: {}", cvId, e.getMessage());
+        }
+    }
+
+    /**
+     * Langue préférée de l'utilisateur (Preferences.language), français par défaut.
+     */
+    private Locale preferredLocale(String userId) {
+        String language = userRepository.findById(userId)
+                .map(User::getPreferences)
+                .map(Preferences::getLanguage)
+                .orElse(null);
+        return "en".equalsIgnoreCase(language) ? Locale.ENGLISH : Locale.FRENCH;
+    }
+
+    private static Counter preRenderCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cvpro.export.prerender")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package juste.backend.export;
+
+import juste.backend.document.CV;
+
+import java.util.Locale;
+
+/**
+ * Export prêt à être rendu : le CV est chargé et son empreinte calculée,
+ * mais aucun travail de rendu n'a encore été fait.
+ *
+ * @param cv CV à exporter
+ * @param locale Locale pour la traduction
+ * @param contentHash Empreinte du contenu rendu ({@link CVContentHasher})
+ * @param format Format de rendu
+ * @param profile Profil de sortie du PDF (sans effet sur les autres formats)
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public record PreparedExport(
+        CV cv,
+        Locale locale,
+        String contentHash,
+        RenderFormat format,
+        OutputProfile profile
+) {
+
+    public static PreparedExport of(CV cv, Locale locale, OutputProfile profile) {
+        return new PreparedExport(cv, locale, CVContentHasher.hash(cv, locale), RenderFormat.PDF, profile);
+    }
+
+    /**
+     * Même export, rendu avec un autre profil de sortie.
+     */
+    public PreparedExport withProfile(OutputProfile profile) {
+        return new PreparedExport(cv, locale, contentHash, format, profile);
+    }
+
+    /**
+     * Même export, rendu dans un autre format.
+     */
+    public PreparedExport withFormat(RenderFormat format) {
+        return new PreparedExport(cv, locale, contentHash, format, profile);
+    }
+
+    /**
+     * Clé du document produit : deux formats ou deux profils donnent deux fichiers
+     * différents pour un même contenu.
+     */
+    public String renderKey() {
+        return contentHash + ":" + format.name() + ":" + profile.name();
+    }
+}
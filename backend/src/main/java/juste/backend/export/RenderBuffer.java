@@ -0,0 +1,70 @@
+package juste.backend.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Tampon de sortie d'un rendu, emprunté à {@link RenderBufferPool} avec une capacité
+ * prédite : il ne grossit (et ne recopie) que si la prédiction est dépassée.
+ * Doit être fermé pour rendre son tableau au pool ; il est alors inutilisable.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public final class RenderBuffer extends OutputStream {
+
+    private final RenderBufferPool pool;
+    private byte[] buf;
+    private int count;
+
+    RenderBuffer(RenderBufferPool pool, byte[] buf) {
+        this.pool = pool;
+        this.buf = buf;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Copie exacte du contenu : seule allocation conservée au-delà du rendu.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, 0, count);
+    }
+
+    @Override
+    public void close() {
+        if (buf != null) {
+            pool.release(buf);
+            buf = null;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (buf == null) {
+            throw new IllegalStateException("Tampon de rendu déjà rendu au pool");
+        }
+        if (capacity > buf.length) {
+            buf = pool.grow(buf, count, capacity);
+        }
+    }
+}
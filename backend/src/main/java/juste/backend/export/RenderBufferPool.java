@@ -0,0 +1,112 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.export.layout.SectionType;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool de tableaux de sortie pour les rendus, par classes de taille (puissances de deux).
+ * La capacité demandée vient d'une moyenne glissante de la taille produite pour des CV
+ * de même forme (format, profil, nombre d'éléments) : un rendu n'alloue plus les copies
+ * successives d'un ByteArrayOutputStream qui double depuis 32 octets.
+ * La mémoire gardée en réserve est bornée par {@code export.buffers.max-pooled-bytes}.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Component
+public class RenderBufferPool {
+
+    private static final int MIN_CLASS_BYTES = 16 * 1024;
+    private static final int DEFAULT_ESTIMATE = 64 * 1024;
+
+    private final long maxPooledBytes;
+    private final int maxClassBytes;
+    private final Map<Integer, ConcurrentLinkedDeque<byte[]>> pooled = new ConcurrentHashMap<>();
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final Map<String, Integer> estimates = new ConcurrentHashMap<>();
+    private final Counter resized;
+
+    public RenderBufferPool(ExportProperties exportProperties, MeterRegistry meterRegistry) {
+        this.maxPooledBytes = exportProperties.getBuffers().getMaxPooledBytes();
+        this.maxClassBytes = sizeClass(exportProperties.getCache().getMaxEntryBytes());
+
+        this.resized = Counter.builder("cvpro.export.buffers.resized")
+                .description("Rendus ayant dépassé la taille prédite")
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.buffers.pooled", pooledBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tampon dimensionné pour la taille attendue de cet export.
+     */
+    public RenderBuffer acquire(PreparedExport export) {
+        int estimate = estimates.getOrDefault(shape(export), DEFAULT_ESTIMATE);
+        // Marge d'un huitième pour absorber les variations autour de la moyenne
+        return new RenderBuffer(this, take(estimate + estimate / 8));
+    }
+
+    /**
+     * Met à jour la prédiction avec la taille réellement produite (moyenne glissante, poids 1/4).
+     */
+    public void record(PreparedExport export, int size) {
+        estimates.merge(shape(export), size, (previous, current) -> previous + (current - previous) / 4);
+    }
+
+    byte[] grow(byte[] buf, int count, int capacity) {
+        resized.increment();
+        byte[] bigger = take(Math.max(capacity, buf.length * 2));
+        System.arraycopy(buf, 0, bigger, 0, count);
+        release(buf);
+        return bigger;
+    }
+
+    void release(byte[] buf) {
+        // Tableaux hors classe (trop grands) ou réserve pleine : laissés au GC
+        if (buf.length > maxClassBytes || Integer.bitCount(buf.length) != 1) {
+            return;
+        }
+        if (pooledBytes.addAndGet(buf.length) > maxPooledBytes) {
+            pooledBytes.addAndGet(-buf.length);
+            return;
+        }
+        pooled.computeIfAbsent(buf.length, size -> new ConcurrentLinkedDeque<>()).push(buf);
+    }
+
+    private byte[] take(int capacity) {
+        int size = sizeClass(capacity);
+        if (size <= maxClassBytes) {
+            ConcurrentLinkedDeque<byte[]> free = pooled.get(size);
+            byte[] buf = free != null ? free.poll() : null;
+            if (buf != null) {
+                pooledBytes.addAndGet(-buf.length);
+                return buf;
+            }
+        }
+        return new byte[size];
+    }
+
+    private static int sizeClass(int capacity) {
+        int size = Math.max(capacity, MIN_CLASS_BYTES);
+        int highest = Integer.highestOneBit(size);
+        return highest == size ? size : highest << 1;
+    }
+
+    /**
+     * Forme d'un CV : format, profil et ordre de grandeur du nombre d'éléments rendus.
+     */
+    private static String shape(PreparedExport export) {
+        int bucket = 32 - Integer.numberOfLeadingZeros(SectionType.totalItemCount(export.cv()));
+        return export.format() + ":" + export.profile() + ":" + bucket;
+    }
+}
@@ -0,0 +1,91 @@
+package juste.backend.export;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Relie l'échéance d'un rendu au cycle de vie de la requête HTTP asynchrone qui l'a demandé
+ * ({@code StreamingResponseBody}) : client déconnecté, délai de la requête dépassé ou réponse
+ * terminée, le rendu encore en cours est annulé à la section suivante.
+ * <p>
+ * Le permis de rendu, obtenu avant de retourner le corps (pour pouvoir répondre 503), appartient
+ * au corps dès qu'il démarre. Si la requête se termine avant (client parti, délai dépassé, exécuteur
+ * saturé), c'est l'intercepteur qui le libère.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public class RenderCancellationInterceptor implements CallableProcessingInterceptor {
+
+    private static final String ATTRIBUTE = RenderDeadline.class.getName();
+    private static final String PERMIT_ATTRIBUTE = RenderPermit.class.getName();
+
+    /**
+     * Attache l'échéance à la requête, avant de retourner le corps de la réponse.
+     */
+    public static RenderDeadline bind(WebRequest request, RenderDeadline deadline) {
+        request.setAttribute(ATTRIBUTE, deadline, RequestAttributes.SCOPE_REQUEST);
+        return deadline;
+    }
+
+    /**
+     * Attache l'échéance et le permis à la requête : le permis est libéré ici si le corps
+     * de la réponse ne démarre jamais.
+     */
+    public static RenderDeadline bind(WebRequest request, RenderDeadline deadline, RenderPermit permit) {
+        request.setAttribute(PERMIT_ATTRIBUTE, new AtomicReference<>(permit), RequestAttributes.SCOPE_REQUEST);
+        return bind(request, deadline);
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        // Le corps démarre : il libère lui-même son permis
+        claimPermit(request);
+    }
+
+    @Override
+    public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) throws Exception {
+        abandon(request);
+        return CallableProcessingInterceptor.super.handleTimeout(request, task);
+    }
+
+    @Override
+    public <T> Object handleError(NativeWebRequest request, Callable<T> task, Throwable t) throws Exception {
+        abandon(request);
+        return CallableProcessingInterceptor.super.handleError(request, task, t);
+    }
+
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        abandon(request);
+    }
+
+    /**
+     * Annule le rendu en cours et libère le permis d'un corps qui n'a pas démarré.
+     */
+    private static void abandon(NativeWebRequest request) {
+        if (request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof RenderDeadline deadline) {
+            deadline.cancel();
+        }
+        RenderPermit permit = claimPermit(request);
+        if (permit != null) {
+            permit.close();
+        }
+    }
+
+    /**
+     * Retire le permis de la requête ; {@code null} s'il a déjà été pris par le corps ou libéré.
+     */
+    @SuppressWarnings("unchecked")
+    private static RenderPermit claimPermit(NativeWebRequest request) {
+        Object holder = request.getAttribute(PERMIT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return holder instanceof AtomicReference<?> reference
+                ? ((AtomicReference<RenderPermit>) reference).getAndSet(null)
+                : null;
+    }
+}
@@ -0,0 +1,77 @@
+package juste.backend.export;
+
+import juste.backend.exceptions.RenderAbortedException;
+
+import java.time.Duration;
+
+/**
+ * Échéance et signal d'annulation d'un rendu, vérifiés par les moteurs entre deux sections.
+ * L'annulation vient d'un autre thread (fin de la requête HTTP, {@link RenderCancellationInterceptor}).
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public final class RenderDeadline {
+
+    private final long start;
+    private final long budget;
+    private volatile boolean cancelled;
+
+    private RenderDeadline(long budget) {
+        this.start = System.nanoTime();
+        this.budget = budget;
+    }
+
+    /**
+     * Échéance atteinte après la durée donnée, à partir de maintenant.
+     */
+    public static RenderDeadline after(Duration budget) {
+        return new RenderDeadline(budget.toNanos());
+    }
+
+    /**
+     * Sans échéance : le rendu ne s'arrête que s'il est annulé.
+     */
+    public static RenderDeadline none() {
+        return new RenderDeadline(Long.MAX_VALUE);
+    }
+
+    /**
+     * Demande l'arrêt du rendu, effectif à la prochaine vérification.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Temps écoulé depuis la création de l'échéance, en nanosecondes.
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Temps restant avant l'échéance, en nanosecondes ({@link Long#MAX_VALUE} sans échéance).
+     */
+    public long remainingNanos() {
+        return budget == Long.MAX_VALUE ? Long.MAX_VALUE : budget - elapsedNanos();
+    }
+
+    /**
+     * Lève une {@link RenderAbortedException} si le rendu a été annulé ou a dépassé son échéance.
+     */
+    public void check() {
+        if (cancelled) {
+            throw new RenderAbortedException(RenderAbortedException.Reason.CANCELLED,
+                    "Rendu annulé : la requête est terminée");
+        }
+        if (elapsedNanos() > budget) {
+            throw new RenderAbortedException(RenderAbortedException.Reason.DEADLINE,
+                    "Rendu interrompu : durée maximale dépassée");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package juste.backend.export;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formats de rendu d'un CV, chacun servi par un {@link CVRenderer}.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public enum RenderFormat {
+
+    PDF(MediaType.APPLICATION_PDF, "pdf"),
+
+    /**
+     * Aperçu à l'écran, bien moins coûteux à produire qu'un PDF.
+     */
+    HTML(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8), "html");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    RenderFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
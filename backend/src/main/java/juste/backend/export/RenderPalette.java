@@ -0,0 +1,85 @@
+package juste.backend.export;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.pdf.BaseFont;
+import juste.backend.enums.Theme;
+import lombok.Getter;
+
+/**
+ * Polices et couleurs d'un rendu, calculés une seule fois par
+ * combinaison (thème, couleur principale, couleur d'accent) puis partagés
+ * en lecture seule par tous les rendus.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Getter
+public final class RenderPalette {
+
+    public static final String DEFAULT_PRIMARY_COLOR = "#3B82F6";
+    public static final String DEFAULT_ACCENT_COLOR = "#10B981";
+
+    private final Theme theme;
+
+    // Couleurs
+    private final BaseColor primaryColor;
+    private final BaseColor accentColor;
+    private final BaseColor textColor;
+
+    // En-tête
+    private final Font nameFont;
+    private final Font jobTitleFont;
+    private final Font contactFont;
+
+    // Sections
+    private final Font sectionTitleFont;
+    private final Font contentFont;
+    private final Font itemTitleFont;
+    private final Font itemSubtitleFont;
+    private final Font minorItemTitleFont;
+    private final Font minorItemSubtitleFont;
+    private final Font categoryFont;
+    private final Font dateFont;
+    private final Font bodyFont;
+
+    RenderPalette(Theme theme, String primaryHex, String accentHex) {
+        this.theme = theme;
+        this.primaryColor = parseHexColor(primaryHex);
+        this.accentColor = parseHexColor(accentHex);
+        this.textColor = theme == Theme.LIGHT ? BaseColor.BLACK : BaseColor.WHITE;
+
+        // Polices Unicode embarquées, partagées par toutes les palettes
+        BaseFont regular = EmbeddedFonts.regular();
+        BaseFont bold = EmbeddedFonts.bold();
+
+        this.nameFont = new Font(bold, 24, Font.NORMAL, textColor);
+        this.jobTitleFont = new Font(regular, 16, Font.NORMAL, primaryColor);
+        this.contactFont = new Font(regular, 10, Font.NORMAL, textColor);
+
+        this.sectionTitleFont = new Font(bold, 14, Font.NORMAL, primaryColor);
+        this.contentFont = new Font(regular, 11, Font.NORMAL, textColor);
+        this.itemTitleFont = new Font(bold, 12, Font.NORMAL, textColor);
+        this.itemSubtitleFont = new Font(regular, 11, Font.NORMAL, primaryColor);
+        this.minorItemTitleFont = new Font(bold, 11, Font.NORMAL, textColor);
+        this.minorItemSubtitleFont = new Font(regular, 10, Font.NORMAL, primaryColor);
+        this.categoryFont = new Font(bold, 11, Font.NORMAL, primaryColor);
+        // DejaVu Sans n'a pas de variante italique livrée : iText incline la police régulière
+        this.dateFont = new Font(regular, 10, Font.ITALIC, textColor);
+        this.bodyFont = new Font(regular, 10, Font.NORMAL, textColor);
+    }
+
+    private static BaseColor parseHexColor(String hex) {
+        if (hex == null || !hex.startsWith("#") || hex.length() != 7) {
+            return BaseColor.BLUE;
+        }
+        try {
+            int r = Integer.parseInt(hex.substring(1, 3), 16);
+            int g = Integer.parseInt(hex.substring(3, 5), 16);
+            int b = Integer.parseInt(hex.substring(5, 7), 16);
+            return new BaseColor(r, g, b);
+        } catch (Exception e) {
+            return BaseColor.BLUE;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package juste.backend.export;
+
+import juste.backend.config.ExportProperties;
+import juste.backend.document.Styling;
+import juste.backend.enums.Theme;
+import org.springframework.stereotype.Component;
+
+/**
+ * Palettes de rendu déjà calculées, indexées par (thème, couleur principale, couleur d'accent).
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Component
+public class RenderPaletteCache {
+
+    private final LruCache<PaletteKey, RenderPalette> palettes;
+
+    public RenderPaletteCache(ExportProperties exportProperties) {
+        this.palettes = new LruCache<>(exportProperties.getPalette().getMaxEntries());
+        // Analyse des polices au démarrage plutôt qu'au premier export
+        EmbeddedFonts.regular();
+        EmbeddedFonts.bold();
+    }
+
+    /**
+     * Palette correspondant au styling du CV (valeurs par défaut si absent).
+     */
+    public RenderPalette get(Styling styling) {
+        PaletteKey key = styling != null
+                ? new PaletteKey(styling.getTheme(), styling.getPrimaryColor(), styling.getAccentColor())
+                : new PaletteKey(Theme.LIGHT, RenderPalette.DEFAULT_PRIMARY_COLOR, RenderPalette.DEFAULT_ACCENT_COLOR);
+
+        RenderPalette palette = palettes.get(key);
+        if (palette == null) {
+            palette = new RenderPalette(key.theme(), key.primaryColor(), key.accentColor());
+            palettes.put(key, palette);
+        }
+        return palette;
+    }
+
+    private record PaletteKey(Theme theme, String primaryColor, String accentColor) {
+    }
+}
@@ -0,0 +1,34 @@
+package juste.backend.export;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Autorisation de rendu délivrée par {@link PDFRenderLimiter}, à fermer une fois le rendu terminé.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public final class RenderPermit implements AutoCloseable {
+
+    /**
+     * Permis vide, pour les exports servis sans rendu (cache).
+     */
+    public static final RenderPermit NONE = new RenderPermit(() -> { });
+
+    private final Runnable release;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    RenderPermit(Runnable release) {
+        this.release = release;
+    }
+
+    /**
+     * Libère le permis ; les appels suivants sont sans effet.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            release.run();
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.events.CVChangedEvent;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Second niveau du cache des rendus : les documents sont écrits sur disque, sous
+ * {@code <directory>/<version>/<cvId>/}, et retrouvés après un redémarrage.
+ * Borné en octets avec éviction LRU (l'ordre est reconstruit au démarrage à partir
+ * des dates de dernier accès des fichiers), et invalidé à chaque modification du CV.
+ * Les rendus d'une autre version ({@link LayoutPlanRegistry#getVersion()}) sont supprimés au démarrage ;
+ * si la version change en cours d'exécution (libellés rechargés), les nouveaux rendus sont écrits
+ * sous la nouvelle version et les anciens, qui ne sont plus servis, sortent par éviction.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Component
+public class RenderStore {
+
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Nom des répertoires de version (empreinte de LayoutPlanRegistry#getVersion)
+    private static final Pattern VERSION_NAME = Pattern.compile("[0-9a-f]{12}");
+
+    private final boolean enabled;
+    private final Path root;
+    private final LayoutPlanRegistry layoutPlans;
+    private final CVKeyedCache<Entry> index;
+    private final Counter hits;
+    private final Counter misses;
+
+    public RenderStore(ExportProperties exportProperties, LayoutPlanRegistry layoutPlans,
+                       MeterRegistry meterRegistry) {
+        ExportProperties.Store store = exportProperties.getStore();
+        this.enabled = store.isEnabled();
+        this.root = store.getDirectory();
+        this.layoutPlans = layoutPlans;
+        this.index = new CVKeyedCache<>(store.getMaxBytes(), Entry::size, this::evicted);
+
+        this.hits = Counter.builder("cvpro.export.store.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cvpro.export.store.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.store.bytes", index, CVKeyedCache::weight)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.store.entries", index, CVKeyedCache::size)
+                .register(meterRegistry);
+
+        if (enabled) {
+            load();
+        }
+    }
+
+    /**
+     * Écrit le document stocké dans le flux fourni (qui n'est pas fermé), par
+     * {@link FileChannel#transferTo} : le document n'est jamais chargé en entier dans le tas.
+     *
+     * @return {@code false} si le document n'est pas stocké
+     */
+    public boolean transferTo(PreparedExport export, OutputStream out) throws IOException {
+        Entry entry = lookup(export);
+        if (entry == null) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(entry.file(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            // Évincé entre la recherche et l'ouverture
+            forget(export);
+            return false;
+        }
+    }
+
+    /**
+     * Lit en mémoire le document stocké, ou {@code null} s'il n'est pas stocké (pour les rendus
+     * en mémoire ; les téléchargements passent par {@link #transferTo}).
+     */
+    public byte[] read(PreparedExport export) {
+        Entry entry = lookup(export);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(entry.file());
+        } catch (NoSuchFileException e) {
+            forget(export);
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Indique si le document est stocké, sans compter de hit ni de miss.
+     */
+    public boolean contains(PreparedExport export) {
+        return enabled && index.contains(key(export));
+    }
+
+    /**
+     * Stocke le document. Un échec d'écriture est journalisé sans interrompre l'export.
+     */
+    public void put(PreparedExport export, byte[] content) {
+        String cvId = export.cv().getId();
+        if (!enabled || !SAFE_NAME.matcher(cvId).matches()) {
+            return;
+        }
+        try {
+            Path cvDirectory = Files.createDirectories(directory().resolve(cvId));
+            Path file = cvDirectory.resolve(fileName(export));
+            // Écriture dans un fichier temporaire puis renommage : un fichier visible est toujours complet
+            Path temp = Files.createTempFile(cvDirectory, null, TEMP_SUFFIX);
+            Files.write(temp, content);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            index.put(cvId, key(export), new Entry(file, content.length));
+        } catch (IOException e) {
+            log.warn("Impossible de stocker le rendu du CV: {}", cvId, e);
+        }
+    }
+
+    /**
+     * Supprime tous les rendus stockés d'un CV, dans toutes les versions.
+     */
+    public void invalidate(String cvId) {
+        index.invalidate(cvId);
+        if (enabled && SAFE_NAME.matcher(cvId).matches()) {
+            try (Stream<Path> versions = Files.list(root)) {
+                for (Path version : versions.filter(RenderStore::isVersionDirectory).toList()) {
+                    FileSystemUtils.deleteRecursively(version.resolve(cvId));
+                }
+            } catch (IOException e) {
+                log.warn("Impossible de supprimer les rendus stockés du CV: {}", cvId, e);
+            }
+        }
+    }
+
+    @EventListener
+    public void onCVChanged(CVChangedEvent event) {
+        invalidate(event.cvId());
+    }
+
+    public double hitCount() {
+        return hits.count();
+    }
+
+    public double missCount() {
+        return misses.count();
+    }
+
+    private Entry lookup(PreparedExport export) {
+        Entry entry = enabled ? index.get(key(export)) : null;
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        touch(entry.file());
+        return entry;
+    }
+
+    private void forget(PreparedExport export) {
+        index.remove(key(export));
+    }
+
+    /**
+     * Appelé par l'index (sous son verrou) lors d'une éviction : le fichier est supprimé.
+     */
+    private void evicted(String key, Entry entry) {
+        try {
+            Files.deleteIfExists(entry.file());
+        } catch (IOException e) {
+            log.warn("Impossible de supprimer le rendu évincé: {}", entry.file(), e);
+        }
+    }
+
+    /**
+     * Reconstruit l'index à partir du disque, du fichier le moins récemment utilisé au plus récent,
+     * et supprime les rendus des autres versions ainsi que les écritures interrompues.
+     * Seuls les répertoires nommés comme une version sont supprimés : le répertoire configuré
+     * peut contenir d'autres fichiers, qui ne sont jamais touchés.
+     */
+    private void load() {
+        Path directory = directory();
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> versions = Files.list(root)) {
+                for (Path version : versions.filter(path -> !path.equals(directory) && isVersionDirectory(path))
+                        .toList()) {
+                    FileSystemUtils.deleteRecursively(version);
+                }
+            }
+
+            List<StoredFile> files = new ArrayList<>();
+            try (Stream<Path> paths = Files.walk(directory, 2)) {
+                for (Path file : paths.filter(Files::isRegularFile).toList()) {
+                    if (file.getParent().equals(directory) || file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                        Files.deleteIfExists(file);
+                        continue;
+                    }
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    files.add(new StoredFile(file, attributes.lastModifiedTime(), attributes.size()));
+                }
+            }
+            files.sort(Comparator.comparing(StoredFile::lastUsed));
+
+            for (StoredFile stored : files) {
+                String cvId = stored.file().getParent().getFileName().toString();
+                String key = directory.getFileName() + "/" + cvId + "/" + stored.file().getFileName();
+                index.put(cvId, key, new Entry(stored.file(), stored.size()));
+            }
+            log.info("{} rendu(s) retrouvé(s) dans {} ({} octets)", index.size(), directory, index.weight());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Répertoire des rendus inutilisable: " + directory, e);
+        }
+    }
+
+    /**
+     * La date de modification sert de date de dernier accès, pour retrouver l'ordre LRU au redémarrage.
+     */
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Date d'accès non mise à jour pour: {}", file, e);
+        }
+    }
+
+    private Path directory() {
+        return root.resolve(layoutPlans.getVersion());
+    }
+
+    private static boolean isVersionDirectory(Path path) {
+        return Files.isDirectory(path) && VERSION_NAME.matcher(path.getFileName().toString()).matches();
+    }
+
+    /**
+     * Clé de l'index : chemin relatif du fichier, version comprise.
+     */
+    private String key(PreparedExport export) {
+        return layoutPlans.getVersion() + "/" + export.cv().getId() + "/" + fileName(export);
+    }
+
+    private static String fileName(PreparedExport export) {
+        return export.contentHash() + "_" + export.profile().name() + "." + export.format().getExtension();
+    }
+
+    private record Entry(Path file, long size) {
+    }
+
+    private record StoredFile(Path file, FileTime lastUsed, long size) {
+    }
+}
@@ -0,0 +1,59 @@
+package juste.backend.export;
+
+import jakarta.annotation.PreDestroy;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.export.layout.SectionType;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+/**
+ * Pool fork-join dédié à la construction des sections d'un même document.
+ * Seuls les CV dépassant {@code export.parallel.min-items} éléments y sont répartis ;
+ * l'ajout des éléments au document iText reste séquentiel, sur le thread du rendu.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Component
+public class SectionBuildPool {
+
+    private final ForkJoinPool pool;
+    private final int minItems;
+
+    public SectionBuildPool(ExportProperties exportProperties) {
+        ExportProperties.Parallel parallel = exportProperties.getParallel();
+        this.minItems = parallel.getMinItems();
+        this.pool = parallel.getParallelism() > 1
+                ? new ForkJoinPool(parallel.getParallelism(), SectionBuildPool::newThread, null, false)
+                : null;
+    }
+
+    /**
+     * Indique si le CV est assez long pour que ses sections soient construites en parallèle.
+     */
+    public boolean shouldFork(CV cv) {
+        return pool != null && SectionType.totalItemCount(cv) >= minItems;
+    }
+
+    public <T> Future<T> fork(Callable<T> task) {
+        return pool.submit(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("pdf-sections-" + thread.getPoolIndex());
+        return thread;
+    }
+}
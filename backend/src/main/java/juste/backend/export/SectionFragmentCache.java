@@ -0,0 +1,104 @@
+package juste.backend.export;
+
+import com.itextpdf.text.Element;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.export.layout.LayoutPlan;
+import juste.backend.export.layout.RenderContext;
+import juste.backend.export.layout.SectionBlock;
+import juste.backend.export.layout.SectionType;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cache des blocs déjà construits pour une section, adressé par l'empreinte
+ * du contenu de la section, la palette, la mise en page, la version des libellés et la locale
+ * (sauf pour les sections qui n'en dépendent pas, partagées entre langues). Quand un utilisateur
+ * modifie une seule section, les autres sont reprises telles quelles.
+ * Seuls les blocs, immuables, sont partagés entre rendus : chaque rendu reçoit ses propres
+ * éléments iText, que le document modifie. Le cache est borné par la taille estimée des blocs.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Component
+public class SectionFragmentCache {
+
+    private final LruCache<FragmentKey, List<SectionBlock>> fragments;
+    private final Map<SectionType, Counter> hits = new EnumMap<>(SectionType.class);
+    private final Map<SectionType, Counter> misses = new EnumMap<>(SectionType.class);
+
+    public SectionFragmentCache(ExportProperties exportProperties, MeterRegistry meterRegistry) {
+        this.fragments = new LruCache<>(exportProperties.getFragments().getMaxBytes(),
+                SectionFragmentCache::weight, null);
+
+        for (SectionType section : SectionType.values()) {
+            hits.put(section, fragmentCounter(meterRegistry, section, "hit"));
+            misses.put(section, fragmentCounter(meterRegistry, section, "miss"));
+        }
+        Gauge.builder("cvpro.export.fragments.entries", fragments, LruCache::size)
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.fragments.bytes", fragments, LruCache::weight)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Nouveaux éléments iText de la section, à partir des blocs en cache ou construits par l'étape du plan.
+     */
+    public List<Element> get(LayoutPlan.Step step, CV cv, RenderContext context) {
+        SectionType section = step.section();
+        FragmentKey key = new FragmentKey(section, CVContentHasher.sectionHash(cv, section),
+                context.palette(), context.layout(), context.labels().getVersion(),
+                section.isLocalized() ? context.locale() : null);
+
+        List<SectionBlock> blocks = fragments.get(key);
+        if (blocks != null) {
+            hits.get(section).increment();
+            return SectionBlock.toElements(blocks);
+        }
+
+        misses.get(section).increment();
+        blocks = List.copyOf(step.builder().build(cv, context));
+        fragments.put(key, blocks);
+        return SectionBlock.toElements(blocks);
+    }
+
+    public long weight() {
+        return fragments.weight();
+    }
+
+    public double hitCount(SectionType section) {
+        return hits.get(section).count();
+    }
+
+    public double missCount(SectionType section) {
+        return misses.get(section).count();
+    }
+
+    private static long weight(List<SectionBlock> blocks) {
+        return blocks.stream().mapToLong(SectionBlock::weight).sum();
+    }
+
+    private static Counter fragmentCounter(MeterRegistry meterRegistry, SectionType section, String result) {
+        return Counter.builder("cvpro.export.fragments.requests")
+                .tag("section", section.name().toLowerCase(Locale.ROOT))
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Palette et plan sont comparés par identité : ils sont immuables et partagés.
+     * La version des libellés écarte les blocs construits avant un rechargement des traductions.
+     */
+    private record FragmentKey(SectionType section, String sectionHash, RenderPalette palette,
+                               LayoutPlan layout, String labelsVersion, Locale locale) {
+    }
+}
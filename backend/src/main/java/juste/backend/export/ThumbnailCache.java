@@ -0,0 +1,68 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.events.CVChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Miniatures PNG déjà rastérisées, adressées par leur version ({@link juste.backend.services.IThumbnailService#version}).
+ * Bornées en octets avec éviction LRU, et retirées à chaque modification du CV.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Component
+public class ThumbnailCache {
+
+    private final CVKeyedCache<byte[]> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ThumbnailCache(ExportProperties exportProperties, MeterRegistry meterRegistry) {
+        this.cache = new CVKeyedCache<>(exportProperties.getThumbnail().getMaxBytes(), png -> png.length, null);
+
+        this.hits = Counter.builder("cvpro.export.thumbnails.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cvpro.export.thumbnails.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.thumbnails.bytes", cache, CVKeyedCache::weight)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retourne la miniature de cette version, ou {@code null} si elle n'est pas en cache.
+     * Le tableau retourné est partagé et ne doit pas être modifié.
+     */
+    public byte[] get(String version) {
+        byte[] png = cache.get(version);
+        if (png == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return png;
+    }
+
+    public void put(String cvId, String version, byte[] png) {
+        cache.put(cvId, version, png);
+    }
+
+    /**
+     * Retire toutes les miniatures d'un CV, toutes locales confondues.
+     */
+    public void invalidate(String cvId) {
+        cache.invalidate(cvId);
+    }
+
+    @EventListener
+    public void onCVChanged(CVChangedEvent event) {
+        invalidate(event.cvId());
+    }
+}
@@ -0,0 +1,18 @@
+package juste.backend.export.layout;
+
+import juste.backend.document.CV;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Écrit le HTML d'une section directement dans le flux, sans construire de modèle intermédiaire.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@FunctionalInterface
+public interface HTMLSectionWriter {
+
+    void write(CV cv, RenderContext context, Writer out) throws IOException;
+}
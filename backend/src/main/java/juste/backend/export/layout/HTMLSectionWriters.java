@@ -0,0 +1,174 @@
+package juste.backend.export.layout;
+
+import juste.backend.document.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+import static org.springframework.web.util.HtmlUtils.htmlEscape;
+
+/**
+ * Équivalents HTML des constructeurs de {@link PDFSectionBuilders} : mêmes sections,
+ * mêmes textes, mêmes libellés. Les styles viennent de la feuille générée par
+ * le moteur HTML à partir de la palette.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+final class HTMLSectionWriters {
+
+    /**
+     * Seuls les caractères spéciaux du HTML sont échappés : la page est en UTF-8.
+     */
+    private static final String HTML_ENCODING = "UTF-8";
+
+    private HTMLSectionWriters() {
+    }
+
+    static HTMLSectionWriter forSection(SectionType section) {
+        return switch (section) {
+            case PERSONAL_INFO -> HTMLSectionWriters::personalInfo;
+            case SUMMARY -> HTMLSectionWriters::summary;
+            case EXPERIENCES -> HTMLSectionWriters::experiences;
+            case EDUCATION -> HTMLSectionWriters::education;
+            case SKILLS -> HTMLSectionWriters::skills;
+            case LANGUAGES -> HTMLSectionWriters::languages;
+            case VOLUNTEER -> HTMLSectionWriters::volunteerActivities;
+            case INTERESTS -> HTMLSectionWriters::interests;
+        };
+    }
+
+    private static void personalInfo(CV cv, RenderContext context, Writer out) throws IOException {
+        PersonalInfo info = cv.getPersonalInfo();
+
+        out.write("<header>");
+        element(out, "h1", "name", info.getFullName());
+        element(out, "p", "job-title", info.getJobTitle());
+
+        String contact = SectionText.contactLine(info);
+        if (!contact.isEmpty()) {
+            element(out, "p", "contact", contact);
+        }
+        String socialMedia = SectionText.socialLine(info);
+        if (!socialMedia.isEmpty()) {
+            element(out, "p", "contact", socialMedia);
+        }
+        out.write("</header>");
+
+        if (context.layout().isHeaderSeparator()) {
+            out.write("<hr>");
+        }
+    }
+
+    private static void summary(CV cv, RenderContext context, Writer out) throws IOException {
+        sectionStart(SectionType.SUMMARY, context, out);
+        element(out, "p", "content", cv.getSummary());
+        out.write("</section>");
+    }
+
+    private static void experiences(CV cv, RenderContext context, Writer out) throws IOException {
+        sectionStart(SectionType.EXPERIENCES, context, out);
+
+        for (Experience exp : cv.getExperiences()) {
+            out.write("<div class=\"item\">");
+            element(out, "h3", "item-title", exp.getPosition());
+            element(out, "p", "item-subtitle", SectionText.withLocation(exp.getCompany(), exp.getLocation()));
+            element(out, "p", "date",
+                    context.formatDateRange(exp.getStartDate(), exp.getEndDate(), exp.getIsCurrent()));
+
+            if (exp.getDescription() != null) {
+                element(out, "p", "body", exp.getDescription());
+            }
+
+            if (exp.getAchievements() != null && !exp.getAchievements().isEmpty()) {
+                out.write("<ul>");
+                for (String achievement : exp.getAchievements()) {
+                    element(out, "li", "body", achievement);
+                }
+                out.write("</ul>");
+            }
+            out.write("</div>");
+        }
+        out.write("</section>");
+    }
+
+    private static void education(CV cv, RenderContext context, Writer out) throws IOException {
+        sectionStart(SectionType.EDUCATION, context, out);
+
+        for (Education edu : cv.getEducation()) {
+            out.write("<div class=\"item\">");
+            element(out, "h3", "item-title", edu.getDegree());
+            element(out, "p", "item-subtitle", SectionText.withLocation(edu.getInstitution(), edu.getLocation()));
+            element(out, "p", "date", context.formatDateRange(edu.getStartDate(), edu.getEndDate(), false));
+            out.write("</div>");
+        }
+        out.write("</section>");
+    }
+
+    private static void skills(CV cv, RenderContext context, Writer out) throws IOException {
+        sectionStart(SectionType.SKILLS, context, out);
+
+        for (Map.Entry<String, String> entry : SectionText.skillsByCategory(cv.getSkills()).entrySet()) {
+            out.write("<p class=\"body\"><span class=\"category\">");
+            out.write(htmlEscape(entry.getKey() + ": ", HTML_ENCODING));
+            out.write("</span>");
+            out.write(htmlEscape(entry.getValue(), HTML_ENCODING));
+            out.write("</p>");
+        }
+        out.write("</section>");
+    }
+
+    private static void languages(CV cv, RenderContext context, Writer out) throws IOException {
+        sectionStart(SectionType.LANGUAGES, context, out);
+        element(out, "p", "body", SectionText.languagesLine(cv.getLanguages()));
+        out.write("</section>");
+    }
+
+    private static void volunteerActivities(CV cv, RenderContext context, Writer out) throws IOException {
+        sectionStart(SectionType.VOLUNTEER, context, out);
+
+        for (VolunteerActivity activity : cv.getVolunteerActivities()) {
+            out.write("<div class=\"item\">");
+            element(out, "h4", "minor-item-title", activity.getRole());
+            element(out, "p", "minor-item-subtitle", activity.getOrganization());
+            element(out, "p", "date", context.formatDateRange(activity.getStartDate(), activity.getEndDate(),
+                    activity.getIsCurrent()));
+
+            if (activity.getDescription() != null) {
+                element(out, "p", "body", activity.getDescription());
+            }
+            out.write("</div>");
+        }
+        out.write("</section>");
+    }
+
+    private static void interests(CV cv, RenderContext context, Writer out) throws IOException {
+        sectionStart(SectionType.INTERESTS, context, out);
+        element(out, "p", "body", String.join(", ", cv.getInterests()));
+        out.write("</section>");
+    }
+
+    /**
+     * Ouvre la section et écrit son titre ; l'appelant ferme la balise {@code section}.
+     */
+    private static void sectionStart(SectionType section, RenderContext context, Writer out) throws IOException {
+        out.write("<section>");
+        element(out, "h2", "section-title",
+                SectionText.title(context.message(section.getTitleKey()), context.layout()));
+    }
+
+    private static void element(Writer out, String tag, String cssClass, String text) throws IOException {
+        out.write('<');
+        out.write(tag);
+        out.write(" class=\"");
+        out.write(cssClass);
+        out.write("\">");
+        if (text != null) {
+            out.write(htmlEscape(text, HTML_ENCODING));
+        }
+        out.write("</");
+        out.write(tag);
+        out.write('>');
+    }
+}
@@ -0,0 +1,147 @@
+package juste.backend.export.layout;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Libellés des rendus, compilés au démarrage en une table immuable par locale
+ * (fichiers {@code i18n/messages_<langue>.properties}, lus en UTF-8).
+ * Les rendus les lisent par simple accès à une map, sans passer par le MessageSource.
+ * Lorsque les fichiers changent, de nouvelles tables sont compilées puis substituées
+ * d'un bloc : un rendu en cours garde les libellés avec lesquels il a commencé.
+ * Chaque compilation porte l'empreinte de son contenu ({@link #getVersion()}), qui entre dans
+ * la version des rendus : les documents en cache ne sont pas resservis avec d'anciens libellés.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Component
+public class LabelTables {
+
+    private static final String BUNDLES = "classpath*:i18n/messages_*.properties";
+    private static final Pattern BUNDLE_NAME = Pattern.compile("messages_([A-Za-z_]+)\\.properties");
+    private static final Locale DEFAULT_LOCALE = Locale.FRENCH;
+
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    private final String bundles;
+
+    private volatile Snapshot snapshot;
+
+    public LabelTables() {
+        this(BUNDLES);
+    }
+
+    LabelTables(String bundles) {
+        this.bundles = bundles;
+        this.snapshot = compile();
+        log.info("Libellés compilés pour les locales: {}", snapshot.tables().keySet());
+    }
+
+    /**
+     * Libellés de la locale, ceux de la locale par défaut (français) si elle n'a pas de fichier.
+     */
+    public Labels get(Locale locale) {
+        Map<Locale, Labels> tables = snapshot.tables();
+        Labels labels = tables.get(Locale.forLanguageTag(locale.getLanguage()));
+        return labels != null ? labels : tables.get(DEFAULT_LOCALE);
+    }
+
+    /**
+     * Empreinte du contenu des libellés actuels : ne change que si un libellé change.
+     */
+    public String getVersion() {
+        return snapshot.version();
+    }
+
+    /**
+     * Recompile les tables si un fichier a été ajouté ou modifié depuis la dernière compilation.
+     */
+    @Scheduled(fixedDelayString = "${export.labels.refresh-interval:3600000}")
+    public void refresh() {
+        long lastModified = lastModified();
+        if (lastModified != snapshot.lastModified()) {
+            snapshot = compile();
+            log.info("Libellés recompilés pour les locales: {} (version {})",
+                    snapshot.tables().keySet(), snapshot.version());
+        }
+    }
+
+    private Snapshot compile() {
+        try {
+            long lastModified = 0;
+            Map<Locale, Map<String, String>> messages = new HashMap<>();
+            for (Resource resource : resolver.getResources(bundles)) {
+                Matcher matcher = BUNDLE_NAME.matcher(String.valueOf(resource.getFilename()));
+                if (!matcher.matches()) {
+                    continue;
+                }
+                lastModified = Math.max(lastModified, resource.lastModified());
+                messages.computeIfAbsent(Locale.forLanguageTag(matcher.group(1).replace('_', '-')),
+                        locale -> new HashMap<>()).putAll(read(resource));
+            }
+
+            String version = fingerprint(messages);
+            Map<String, String> defaults = messages.getOrDefault(DEFAULT_LOCALE, Map.of());
+            Map<Locale, Labels> tables = new HashMap<>();
+            messages.forEach((locale, values) -> tables.put(locale, new Labels(locale, values, defaults, version)));
+            tables.putIfAbsent(DEFAULT_LOCALE, new Labels(DEFAULT_LOCALE, Map.of(), Map.of(), version));
+            return new Snapshot(Map.copyOf(tables), lastModified, version);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Fichiers de libellés illisibles: " + bundles, e);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            long lastModified = 0;
+            for (Resource resource : resolver.getResources(bundles)) {
+                lastModified = Math.max(lastModified, resource.lastModified());
+            }
+            return lastModified;
+        } catch (IOException e) {
+            log.warn("Impossible de vérifier les fichiers de libellés: {}", bundles, e);
+            return snapshot.lastModified();
+        }
+    }
+
+    private static Map<String, String> read(Resource resource) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> values = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> values.put(key, properties.getProperty(key)));
+        return values;
+    }
+
+    /**
+     * Empreinte des libellés de toutes les locales, dans un ordre stable.
+     */
+    private static String fingerprint(Map<Locale, Map<String, String>> messages) {
+        Map<Locale, Map<String, String>> sorted = new TreeMap<>(Comparator.comparing(Locale::toLanguageTag));
+        messages.forEach((locale, values) -> sorted.put(locale, new TreeMap<>(values)));
+        return LayoutPlanRegistry.fingerprint(sorted.toString());
+    }
+
+    private record Snapshot(Map<Locale, Labels> tables, long lastModified, String version) {
+    }
+}
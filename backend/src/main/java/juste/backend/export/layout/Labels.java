@@ -0,0 +1,42 @@
+package juste.backend.export.layout;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Table immuable des libellés d'une locale, compilée depuis les fichiers {@code i18n/messages_*.properties}.
+ * Un code absent de la locale reprend celui de la locale par défaut, puis le code lui-même.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public final class Labels {
+
+    private final Locale locale;
+    private final Map<String, String> messages;
+    private final String version;
+
+    Labels(Locale locale, Map<String, String> messages, Map<String, String> defaults, String version) {
+        this.locale = locale;
+        this.version = version;
+        Map<String, String> merged = new HashMap<>(defaults);
+        merged.putAll(messages);
+        this.messages = Map.copyOf(merged);
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Version des tables dont ces libellés sont issus ({@link LabelTables#getVersion()}).
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    public String get(String code) {
+        return messages.getOrDefault(code, code);
+    }
+}
@@ -0,0 +1,68 @@
+package juste.backend.export.layout;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Description déclarative d'une mise en page, telle qu'elle est lue depuis la
+ * configuration ({@code export.layouts.<THEME>}). Elle n'est jamais utilisée
+ * directement au rendu : {@link LayoutPlanRegistry} la compile en {@link LayoutPlan}.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Data
+public class LayoutDefinition {
+
+    /**
+     * Ordre des sections ; une section absente de la liste n'est pas rendue.
+     */
+    private List<SectionType> sections = new ArrayList<>(List.of(SectionType.values()));
+
+    /**
+     * En-tête (nom, poste, coordonnées).
+     */
+    private Header header = new Header();
+
+    /**
+     * Titres de section.
+     */
+    private SectionTitle sectionTitle = new SectionTitle();
+
+    /**
+     * Listes à puces (réalisations).
+     */
+    private ListStyle list = new ListStyle();
+
+    @Data
+    public static class Header {
+
+        /**
+         * Trace une ligne de séparation sous l'en-tête.
+         */
+        private boolean separator = true;
+    }
+
+    @Data
+    public static class SectionTitle {
+
+        /**
+         * Affiche les titres en majuscules.
+         */
+        private boolean uppercase = true;
+
+        private float spacingBefore = 10;
+
+        private float spacingAfter = 5;
+    }
+
+    @Data
+    public static class ListStyle {
+
+        private String symbol = "•";
+
+        private float indentation = 20;
+    }
+}
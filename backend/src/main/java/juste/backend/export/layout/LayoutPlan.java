@@ -0,0 +1,46 @@
+package juste.backend.export.layout;
+
+import juste.backend.enums.Theme;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Mise en page compilée et immuable : la suite des sections à rendre, chacune déjà
+ * associée à ses constructeurs (PDF et HTML), et les réglages résolus une fois pour toutes.
+ * Le moteur se contente de la parcourir.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Getter
+public final class LayoutPlan {
+
+    private final Theme theme;
+    private final List<Step> steps;
+
+    private final boolean headerSeparator;
+    private final boolean uppercaseTitles;
+    private final float titleSpacingBefore;
+    private final float titleSpacingAfter;
+    private final String listSymbol;
+    private final float listIndentation;
+
+    LayoutPlan(Theme theme, List<Step> steps, LayoutDefinition definition) {
+        this.theme = theme;
+        this.steps = List.copyOf(steps);
+        this.headerSeparator = definition.getHeader().isSeparator();
+        this.uppercaseTitles = definition.getSectionTitle().isUppercase();
+        this.titleSpacingBefore = definition.getSectionTitle().getSpacingBefore();
+        this.titleSpacingAfter = definition.getSectionTitle().getSpacingAfter();
+        this.listSymbol = definition.getList().getSymbol();
+        this.listIndentation = definition.getList().getIndentation();
+    }
+
+    /**
+     * Une section du plan, le constructeur qui produit ses éléments PDF
+     * et celui qui écrit son HTML.
+     */
+    public record Step(SectionType section, SectionBuilder builder, HTMLSectionWriter htmlWriter) {
+    }
+}
@@ -0,0 +1,107 @@
+package juste.backend.export.layout;
+
+import juste.backend.config.ExportProperties;
+import juste.backend.enums.Theme;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compile au démarrage une mise en page par thème : celle déclarée sous
+ * {@code export.layouts.<THEME>} si elle existe, la mise en page intégrée sinon.
+ * Une définition invalide empêche l'application de démarrer.
+ * La version des documents combine ces définitions et celle des libellés ({@link LabelTables}).
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Component
+public class LayoutPlanRegistry {
+
+    /**
+     * Version du code de rendu, à incrémenter lorsqu'un changement des moteurs
+     * modifie les documents produits pour un même CV.
+     */
+    public static final int RENDERER_VERSION = 3;
+
+    private final Map<Theme, LayoutPlan> plans = new EnumMap<>(Theme.class);
+    private final LabelTables labelTables;
+    private final String layoutsVersion;
+    private volatile Version version;
+
+    public LayoutPlanRegistry(ExportProperties exportProperties, LabelTables labelTables) {
+        this.labelTables = labelTables;
+        Map<Theme, LayoutDefinition> configured = exportProperties.getLayouts();
+        StringBuilder definitions = new StringBuilder().append(RENDERER_VERSION);
+        for (Theme theme : Theme.values()) {
+            LayoutDefinition definition = configured.getOrDefault(theme, new LayoutDefinition());
+            plans.put(theme, compile(theme, definition));
+            definitions.append('|').append(theme).append('=').append(definition);
+        }
+        this.layoutsVersion = fingerprint(definitions.toString());
+        log.info("Mises en page compilées pour les thèmes: {} (version {})", plans.keySet(), layoutsVersion);
+    }
+
+    /**
+     * Version des documents produits : change avec {@link #RENDERER_VERSION}, avec
+     * la configuration des mises en page ou avec les libellés rechargés, pour que des rendus
+     * conservés (mémoire, disque, navigateur) ne soient pas resservis après un tel changement.
+     */
+    public String getVersion() {
+        String labelsVersion = labelTables.getVersion();
+        Version current = version;
+        if (current == null || !current.labelsVersion().equals(labelsVersion)) {
+            current = new Version(labelsVersion, fingerprint(layoutsVersion + '|' + labelsVersion));
+            version = current;
+        }
+        return current.value();
+    }
+
+    /**
+     * Plan du thème, celui du thème clair lorsque le CV n'en précise pas.
+     */
+    public LayoutPlan get(Theme theme) {
+        return plans.get(theme != null ? theme : Theme.LIGHT);
+    }
+
+    static LayoutPlan compile(Theme theme, LayoutDefinition definition) {
+        if (definition.getSections() == null || definition.getSections().isEmpty()) {
+            throw new IllegalStateException("Mise en page sans section pour le thème " + theme);
+        }
+
+        Set<SectionType> seen = EnumSet.noneOf(SectionType.class);
+        List<LayoutPlan.Step> steps = new ArrayList<>();
+        for (SectionType section : definition.getSections()) {
+            if (!seen.add(section)) {
+                throw new IllegalStateException("Section " + section + " déclarée deux fois pour le thème " + theme);
+            }
+            steps.add(new LayoutPlan.Step(section,
+                    PDFSectionBuilders.forSection(section), HTMLSectionWriters.forSection(section)));
+        }
+        return new LayoutPlan(theme, steps, definition);
+    }
+
+    static String fingerprint(String definitions) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(definitions.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    private record Version(String labelsVersion, String value) {
+    }
+}
@@ -0,0 +1,186 @@
+package juste.backend.export.layout;
+
+import com.itextpdf.text.Element;
+import juste.backend.document.*;
+import juste.backend.export.RenderPalette;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static juste.backend.export.layout.SectionBlock.paragraph;
+
+/**
+ * Constructeurs des blocs de chaque section du CV, convertis en éléments iText au rendu.
+ * Seul {@link #forSection(SectionType)} est appelé, à la compilation des plans.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+final class PDFSectionBuilders {
+
+    private PDFSectionBuilders() {
+    }
+
+    static SectionBuilder forSection(SectionType section) {
+        return switch (section) {
+            case PERSONAL_INFO -> PDFSectionBuilders::personalInfo;
+            case SUMMARY -> PDFSectionBuilders::summary;
+            case EXPERIENCES -> PDFSectionBuilders::experiences;
+            case EDUCATION -> PDFSectionBuilders::education;
+            case SKILLS -> PDFSectionBuilders::skills;
+            case LANGUAGES -> PDFSectionBuilders::languages;
+            case VOLUNTEER -> PDFSectionBuilders::volunteerActivities;
+            case INTERESTS -> PDFSectionBuilders::interests;
+        };
+    }
+
+    private static List<SectionBlock> personalInfo(CV cv, RenderContext context) {
+        PersonalInfo info = cv.getPersonalInfo();
+        RenderPalette palette = context.palette();
+        List<SectionBlock> elements = new ArrayList<>();
+
+        elements.add(paragraph(info.getFullName(), palette.getNameFont()).aligned(Element.ALIGN_CENTER));
+        elements.add(paragraph(info.getJobTitle(), palette.getJobTitleFont())
+                .aligned(Element.ALIGN_CENTER)
+                .spacingAfter(10));
+
+        // Informations de contact
+        String contact = SectionText.contactLine(info);
+        if (!contact.isEmpty()) {
+            elements.add(paragraph(contact, palette.getContactFont())
+                    .aligned(Element.ALIGN_CENTER)
+                    .spacingAfter(5));
+        }
+
+        // LinkedIn et Skype
+        String socialMedia = SectionText.socialLine(info);
+        if (!socialMedia.isEmpty()) {
+            elements.add(paragraph(socialMedia, palette.getContactFont())
+                    .aligned(Element.ALIGN_CENTER)
+                    .spacingAfter(20));
+        }
+
+        // Ligne de séparation
+        if (context.layout().isHeaderSeparator()) {
+            elements.add(new SectionBlock.Separator(1, 100, palette.getPrimaryColor(), Element.ALIGN_CENTER, -2));
+        }
+        elements.add(SectionBlock.NewLine.INSTANCE);
+        return elements;
+    }
+
+    private static List<SectionBlock> summary(CV cv, RenderContext context) {
+        List<SectionBlock> elements = sectionStart(SectionType.SUMMARY, context);
+
+        elements.add(paragraph(cv.getSummary(), context.palette().getContentFont())
+                .aligned(Element.ALIGN_JUSTIFIED)
+                .spacingAfter(10));
+        return elements;
+    }
+
+    private static List<SectionBlock> experiences(CV cv, RenderContext context) {
+        RenderPalette palette = context.palette();
+        List<SectionBlock> elements = sectionStart(SectionType.EXPERIENCES, context);
+
+        for (Experience exp : cv.getExperiences()) {
+            elements.add(paragraph(exp.getPosition(), palette.getItemTitleFont()));
+
+            String companyInfo = SectionText.withLocation(exp.getCompany(), exp.getLocation());
+            elements.add(paragraph(companyInfo, palette.getItemSubtitleFont()));
+
+            String dateRange = context.formatDateRange(exp.getStartDate(), exp.getEndDate(), exp.getIsCurrent());
+            elements.add(paragraph(dateRange, palette.getDateFont()).spacingAfter(5));
+
+            if (exp.getDescription() != null) {
+                elements.add(paragraph(exp.getDescription(), palette.getBodyFont()).spacingAfter(5));
+            }
+
+            if (exp.getAchievements() != null && !exp.getAchievements().isEmpty()) {
+                elements.add(new SectionBlock.BulletList(exp.getAchievements(), palette.getBodyFont(),
+                        context.layout().getListSymbol(), context.layout().getListIndentation()));
+            }
+            elements.add(SectionBlock.NewLine.INSTANCE);
+        }
+        return elements;
+    }
+
+    private static List<SectionBlock> education(CV cv, RenderContext context) {
+        RenderPalette palette = context.palette();
+        List<SectionBlock> elements = sectionStart(SectionType.EDUCATION, context);
+
+        for (Education edu : cv.getEducation()) {
+            elements.add(paragraph(edu.getDegree(), palette.getItemTitleFont()));
+
+            String institutionInfo = SectionText.withLocation(edu.getInstitution(), edu.getLocation());
+            elements.add(paragraph(institutionInfo, palette.getItemSubtitleFont()));
+
+            String dateRange = context.formatDateRange(edu.getStartDate(), edu.getEndDate(), false);
+            elements.add(paragraph(dateRange, palette.getDateFont()).spacingAfter(10));
+        }
+        return elements;
+    }
+
+    private static List<SectionBlock> skills(CV cv, RenderContext context) {
+        RenderPalette palette = context.palette();
+        List<SectionBlock> elements = sectionStart(SectionType.SKILLS, context);
+
+        // Grouper par catégorie
+        for (Map.Entry<String, String> entry : SectionText.skillsByCategory(cv.getSkills()).entrySet()) {
+            elements.add(paragraph(entry.getKey() + ": ", palette.getCategoryFont())
+                    .with(entry.getValue(), palette.getBodyFont())
+                    .spacingAfter(5));
+        }
+
+        elements.add(SectionBlock.NewLine.INSTANCE);
+        return elements;
+    }
+
+    private static List<SectionBlock> languages(CV cv, RenderContext context) {
+        List<SectionBlock> elements = sectionStart(SectionType.LANGUAGES, context);
+
+        elements.add(paragraph(SectionText.languagesLine(cv.getLanguages()), context.palette().getBodyFont())
+                .spacingAfter(10));
+        return elements;
+    }
+
+    private static List<SectionBlock> volunteerActivities(CV cv, RenderContext context) {
+        RenderPalette palette = context.palette();
+        List<SectionBlock> elements = sectionStart(SectionType.VOLUNTEER, context);
+
+        for (VolunteerActivity activity : cv.getVolunteerActivities()) {
+            elements.add(paragraph(activity.getRole(), palette.getMinorItemTitleFont()));
+            elements.add(paragraph(activity.getOrganization(), palette.getMinorItemSubtitleFont()));
+
+            String dateRange = context.formatDateRange(activity.getStartDate(), activity.getEndDate(),
+                    activity.getIsCurrent());
+            elements.add(paragraph(dateRange, palette.getDateFont()).spacingAfter(5));
+
+            if (activity.getDescription() != null) {
+                elements.add(paragraph(activity.getDescription(), palette.getBodyFont()).spacingAfter(10));
+            }
+        }
+        return elements;
+    }
+
+    private static List<SectionBlock> interests(CV cv, RenderContext context) {
+        List<SectionBlock> elements = sectionStart(SectionType.INTERESTS, context);
+
+        elements.add(paragraph(String.join(", ", cv.getInterests()), context.palette().getBodyFont())
+                .spacingAfter(10));
+        return elements;
+    }
+
+    /**
+     * Nouvelle liste d'éléments commençant par le titre de la section.
+     */
+    private static List<SectionBlock> sectionStart(SectionType section, RenderContext context) {
+        LayoutPlan layout = context.layout();
+        String title = context.message(section.getTitleKey());
+
+        List<SectionBlock> elements = new ArrayList<>();
+        elements.add(paragraph(SectionText.title(title, layout), context.palette().getSectionTitleFont())
+                .spacingBefore(layout.getTitleSpacingBefore())
+                .spacingAfter(layout.getTitleSpacingAfter()));
+        return elements;
+    }
+}
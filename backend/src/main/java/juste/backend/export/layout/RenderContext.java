@@ -0,0 +1,30 @@
+package juste.backend.export.layout;
+
+import juste.backend.export.RenderPalette;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Ce dont une section a besoin pour se rendre : palette, plan, langue et libellés.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public record RenderContext(RenderPalette palette, LayoutPlan layout, Locale locale, Labels labels) {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM/yyyy");
+
+    public String message(String code) {
+        return labels.get(code);
+    }
+
+    public String formatDateRange(LocalDate start, LocalDate end, Boolean isCurrent) {
+        String startStr = start.format(DATE_FORMATTER);
+        String endStr = (isCurrent != null && isCurrent)
+                ? message("cv.present")
+                : (end != null ? end.format(DATE_FORMATTER) : "");
+        return startStr + " - " + endStr;
+    }
+}
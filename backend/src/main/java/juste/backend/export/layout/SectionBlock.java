@@ -0,0 +1,168 @@
+package juste.backend.export.layout;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Chunk;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.ListItem;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.pdf.draw.LineSeparator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bloc d'une section PDF décrit sans objet iText : immuable, il peut être mis en cache et
+ * partagé entre rendus, même concurrents. Les éléments iText, que le document modifie
+ * lorsqu'on les y ajoute, sont recréés à chaque rendu par {@link #toElement()}.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public sealed interface SectionBlock
+        permits SectionBlock.Text, SectionBlock.BulletList, SectionBlock.Separator, SectionBlock.NewLine {
+
+    /**
+     * Nouvel élément iText, propre à un seul document.
+     */
+    Element toElement();
+
+    /**
+     * Place estimée du bloc en mémoire, en octets (textes compris).
+     */
+    long weight();
+
+    static List<Element> toElements(List<SectionBlock> blocks) {
+        List<Element> elements = new ArrayList<>(blocks.size());
+        for (SectionBlock block : blocks) {
+            elements.add(block.toElement());
+        }
+        return elements;
+    }
+
+    /**
+     * Paragraphe d'un seul texte, sans alignement ni espacement.
+     */
+    static Text paragraph(String text, Font font) {
+        return new Text(List.of(new Run(text, font)), Element.ALIGN_UNDEFINED, 0, 0);
+    }
+
+    private static long textWeight(String text) {
+        return 40 + (text != null ? 2L * text.length() : 0);
+    }
+
+    /**
+     * Portion de texte dans une police.
+     */
+    record Run(String text, Font font) {
+    }
+
+    /**
+     * Paragraphe, éventuellement composé de plusieurs polices.
+     */
+    record Text(List<Run> runs, int alignment, float spacingBefore, float spacingAfter) implements SectionBlock {
+
+        public Text {
+            runs = List.copyOf(runs);
+        }
+
+        public Text aligned(int alignment) {
+            return new Text(runs, alignment, spacingBefore, spacingAfter);
+        }
+
+        public Text spacingBefore(float spacingBefore) {
+            return new Text(runs, alignment, spacingBefore, spacingAfter);
+        }
+
+        public Text spacingAfter(float spacingAfter) {
+            return new Text(runs, alignment, spacingBefore, spacingAfter);
+        }
+
+        /**
+         * Même paragraphe, suivi d'un texte dans une autre police.
+         */
+        public Text with(String text, Font font) {
+            List<Run> extended = new ArrayList<>(runs);
+            extended.add(new Run(text, font));
+            return new Text(extended, alignment, spacingBefore, spacingAfter);
+        }
+
+        @Override
+        public Element toElement() {
+            Run first = runs.get(0);
+            Paragraph paragraph = new Paragraph(first.text(), first.font());
+            for (Run run : runs.subList(1, runs.size())) {
+                paragraph.add(new Chunk(run.text(), run.font()));
+            }
+            paragraph.setAlignment(alignment);
+            paragraph.setSpacingBefore(spacingBefore);
+            paragraph.setSpacingAfter(spacingAfter);
+            return paragraph;
+        }
+
+        @Override
+        public long weight() {
+            return 32 + runs.stream().mapToLong(run -> textWeight(run.text())).sum();
+        }
+    }
+
+    /**
+     * Liste à puces.
+     */
+    record BulletList(List<String> items, Font font, String symbol, float indentation) implements SectionBlock {
+
+        public BulletList {
+            items = List.copyOf(items);
+        }
+
+        @Override
+        public Element toElement() {
+            com.itextpdf.text.List list = new com.itextpdf.text.List(com.itextpdf.text.List.UNORDERED);
+            list.setListSymbol(symbol);
+            for (String item : items) {
+                list.add(new ListItem(item, font));
+            }
+            list.setIndentationLeft(indentation);
+            return list;
+        }
+
+        @Override
+        public long weight() {
+            return 32 + textWeight(symbol) + items.stream().mapToLong(SectionBlock::textWeight).sum();
+        }
+    }
+
+    /**
+     * Ligne de séparation horizontale.
+     */
+    record Separator(float lineWidth, float percentage, BaseColor color, int alignment, float offset)
+            implements SectionBlock {
+
+        @Override
+        public Element toElement() {
+            return new Chunk(new LineSeparator(lineWidth, percentage, color, alignment, offset));
+        }
+
+        @Override
+        public long weight() {
+            return 48;
+        }
+    }
+
+    /**
+     * Saut de ligne.
+     */
+    enum NewLine implements SectionBlock {
+        INSTANCE;
+
+        @Override
+        public Element toElement() {
+            return Chunk.NEWLINE;
+        }
+
+        @Override
+        public long weight() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package juste.backend.export.layout;
+
+import juste.backend.document.CV;
+
+import java.util.List;
+
+/**
+ * Produit les blocs d'une section ({@link SectionBlock}), convertis en éléments iText au rendu.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@FunctionalInterface
+public interface SectionBuilder {
+
+    List<SectionBlock> build(CV cv, RenderContext context);
+}
@@ -0,0 +1,78 @@
+package juste.backend.export.layout;
+
+import juste.backend.document.Language;
+import juste.backend.document.PersonalInfo;
+import juste.backend.document.Skill;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Textes des sections communs à tous les formats de rendu (PDF, HTML),
+ * pour qu'un même CV affiche exactement les mêmes libellés partout.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public final class SectionText {
+
+    private SectionText() {
+    }
+
+    /**
+     * Email, téléphone et adresse séparés par des barres verticales (vide si aucun).
+     */
+    public static String contactLine(PersonalInfo info) {
+        StringBuilder contact = new StringBuilder();
+        if (info.getEmail() != null) contact.append(info.getEmail()).append(" | ");
+        if (info.getPhone() != null) contact.append(info.getPhone()).append(" | ");
+        if (info.getAddress() != null) contact.append(info.getAddress());
+        return contact.toString();
+    }
+
+    /**
+     * LinkedIn et Skype (vide si aucun).
+     */
+    public static String socialLine(PersonalInfo info) {
+        StringBuilder socialMedia = new StringBuilder();
+        if (info.getLinkedIn() != null) socialMedia.append("LinkedIn: ").append(info.getLinkedIn());
+        if (info.getSkype() != null) {
+            if (socialMedia.length() > 0) socialMedia.append(" | ");
+            socialMedia.append("Skype: ").append(info.getSkype());
+        }
+        return socialMedia.toString();
+    }
+
+    public static String withLocation(String name, String location) {
+        return location != null ? name + " - " + location : name;
+    }
+
+    /**
+     * Compétences groupées par catégorie, dans l'ordre de première apparition.
+     */
+    public static Map<String, String> skillsByCategory(List<Skill> skills) {
+        Map<String, List<Skill>> grouped = new LinkedHashMap<>();
+        for (Skill skill : skills) {
+            grouped.computeIfAbsent(skill.getCategory(), k -> new ArrayList<>()).add(skill);
+        }
+
+        Map<String, String> lines = new LinkedHashMap<>();
+        grouped.forEach((category, categorySkills) -> lines.put(category, categorySkills.stream()
+                .map(s -> s.getName() + " (" + s.getLevel().name() + ")")
+                .collect(Collectors.joining(", "))));
+        return lines;
+    }
+
+    public static String languagesLine(List<Language> languages) {
+        return languages.stream()
+                .map(l -> l.getName() + " (" + l.getLevel().name() + ")")
+                .collect(Collectors.joining(", "));
+    }
+
+    public static String title(String label, LayoutPlan layout) {
+        return layout.isUppercaseTitles() ? label.toUpperCase() : label;
+    }
+}
@@ -0,0 +1,77 @@
+package juste.backend.export.layout;
+
+import juste.backend.document.CV;
+
+import java.util.Collection;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sections d'un CV pouvant figurer dans une mise en page.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public enum SectionType {
+    PERSONAL_INFO(null, cv -> cv.getPersonalInfo() != null ? 1 : 0),
+    SUMMARY("cv.summary", cv -> cv.getSummary() != null && !cv.getSummary().isEmpty() ? 1 : 0),
+    EXPERIENCES("cv.experience", cv -> cv.getExperiences() == null ? 0 : cv.getExperiences().size()
+            + cv.getExperiences().stream().mapToInt(exp -> size(exp.getAchievements())).sum()),
+    EDUCATION("cv.education", cv -> size(cv.getEducation())),
+    SKILLS("cv.skills", cv -> size(cv.getSkills())),
+    LANGUAGES("cv.languages", cv -> size(cv.getLanguages())),
+    VOLUNTEER("cv.volunteer", cv -> size(cv.getVolunteerActivities())),
+    INTERESTS("cv.interests", cv -> size(cv.getInterests()));
+
+    private final String titleKey;
+    private final ToIntFunction<CV> itemCount;
+
+    SectionType(String titleKey, ToIntFunction<CV> itemCount) {
+        this.titleKey = titleKey;
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * Clé i18n du titre de la section, {@code null} pour l'en-tête.
+     */
+    public String getTitleKey() {
+        return titleKey;
+    }
+
+    /**
+     * Indique si le rendu de la section dépend de la langue (titre, dates « présent »).
+     * L'en-tête ne contient que des données saisies : il est identique dans toutes les langues.
+     */
+    public boolean isLocalized() {
+        return titleKey != null;
+    }
+
+    /**
+     * Indique si le CV contient de quoi rendre cette section.
+     */
+    public boolean isPresent(CV cv) {
+        return itemCount(cv) > 0;
+    }
+
+    /**
+     * Nombre d'éléments rendus dans cette section (entrées, et réalisations pour les expériences),
+     * qui donne l'ordre de grandeur de son coût de rendu.
+     */
+    public int itemCount(CV cv) {
+        return itemCount.applyAsInt(cv);
+    }
+
+    /**
+     * Nombre total d'éléments rendus pour le CV, toutes sections confondues.
+     */
+    public static int totalItemCount(CV cv) {
+        int total = 0;
+        for (SectionType section : values()) {
+            total += section.itemCount(cv);
+        }
+        return total;
+    }
+
+    private static int size(Collection<?> values) {
+        return values != null ? values.size() : 0;
+    }
+}
@@ -0,0 +1,36 @@
+package juste.backend.securite;
+
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Utilisateur authentifié, qui porte son identifiant en plus de son email : les contrôleurs
+ * l'obtiennent sans relire l'utilisateur en base.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final String id;
+
+    public AuthenticatedUser(String id, String email, String password,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, authorities);
+        this.id = id;
+    }
+
+    /**
+     * Identifiant de l'utilisateur authentifié, son nom (email) si le principal n'en porte pas.
+     */
+    public static String idOf(Authentication authentication) {
+        return authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.getId()
+                : authentication.getName();
+    }
+}
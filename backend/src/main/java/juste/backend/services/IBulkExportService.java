@@ -0,0 +1,27 @@
+package juste.backend.services;
+
+import juste.backend.export.PreparedExport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public interface IBulkExportService {
+
+    /**
+     * Charge tous les CV de l'utilisateur, du plus récent au plus ancien, sans les rendre.
+     */
+    List<PreparedExport> prepareAll(String userEmail, Locale locale);
+
+    /**
+     * Rend les CV en parallèle et écrit chaque PDF dans une archive ZIP dès qu'il est prêt.
+     * Lorsque les exports couvrent plusieurs locales, le nom de chaque fichier porte sa langue.
+     * Le flux n'est pas fermé.
+     */
+    void writeZip(List<PreparedExport> exports, OutputStream out) throws IOException;
+}
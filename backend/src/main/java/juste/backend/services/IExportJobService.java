@@ -0,0 +1,27 @@
+package juste.backend.services;
+
+import juste.backend.dtos.responses.ExportJobResponse;
+
+import java.util.Locale;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public interface IExportJobService {
+
+    /**
+     * Met en file le rendu PDF d'un CV et retourne immédiatement la tâche créée.
+     */
+    ExportJobResponse submit(String cvId, String userEmail, Locale locale);
+
+    /**
+     * Récupère l'état d'une tâche d'export de l'utilisateur.
+     */
+    ExportJobResponse getStatus(String jobId, String userEmail);
+
+    /**
+     * Récupère le PDF d'une tâche terminée.
+     */
+    byte[] getResult(String jobId, String userEmail);
+}
@@ -1,5 +1,13 @@
 package juste.backend.services;
 
+import juste.backend.dtos.requests.CVRequest;
+import juste.backend.export.PreparedExport;
+import juste.backend.export.RenderDeadline;
+import juste.backend.export.RenderPermit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -17,4 +25,124 @@ public interface IPDFExportService {
      * @return Contenu du PDF en bytes
      */
     byte[] generatePDF(String cvId, String userEmail, Locale locale);
+
+    /**
+     * Charge le CV à exporter sans le rendre, afin que les erreurs (CV introuvable, ...)
+     * soient levées avant l'envoi de la réponse.
+     *
+     * @param cvId ID du CV
+     * @param userEmail Email de l'utilisateur propriétaire
+     * @param locale Locale pour la traduction
+     * @return Export prêt à être écrit
+     */
+    PreparedExport prepare(String cvId, String userEmail, Locale locale);
+
+    /**
+     * Prépare un export par locale à partir d'une seule lecture du CV.
+     *
+     * @param cvId ID du CV
+     * @param userEmail Email de l'utilisateur propriétaire
+     * @param locales Locales demandées, sans doublon
+     * @return Un export préparé par locale, dans l'ordre demandé
+     */
+    List<PreparedExport> prepare(String cvId, String userEmail, List<Locale> locales);
+
+    /**
+     * Rend en mémoire un export déjà préparé, dans son format (utilisé hors du thread de la requête).
+     *
+     * @param export Export préparé par {@link #prepare}
+     * @return Contenu du document en bytes
+     */
+    byte[] render(PreparedExport export);
+
+    /**
+     * Comme {@link #render}, pour un rendu déjà accepté (entrée d'une archive dont la réponse est
+     * engagée, tâche d'export en arrière-plan) : attend un permis de rendu au lieu d'être refusé
+     * quand le serveur est chargé.
+     *
+     * @param export Export préparé par {@link #prepare}
+     * @return Contenu du document en bytes
+     */
+    byte[] renderQueued(PreparedExport export);
+
+    /**
+     * Rendu d'arrière-plan à basse priorité, pour alimenter les caches : n'occupe ni
+     * emplacement de l'utilisateur ni place dans la file, et n'est pas fait si le serveur est occupé.
+     *
+     * @param export Export préparé
+     * @return {@code false} si le rendu a été abandonné faute de permis libre
+     */
+    boolean preRender(PreparedExport export);
+
+    /**
+     * ETag du document produit : change avec le contenu du CV, la locale, le format,
+     * le profil de sortie et la version du rendu. Calculé sans rendre le document.
+     * Il est faible ({@code W/}) pour un profil dont le rendu n'est pas reproductible
+     * octet pour octet ({@link juste.backend.export.OutputProfile#isDeterministic()}).
+     *
+     * @param export Export préparé par {@link #prepare}
+     * @return ETag entre guillemets, préfixé par {@code W/} s'il est faible
+     */
+    String eTag(PreparedExport export);
+
+    /**
+     * Demande l'autorisation de rendre un export (contrôle d'admission).
+     * Un export déjà en cache n'en consomme pas ({@link RenderPermit#NONE}) : ce n'est qu'une
+     * prévision, que {@link #write} corrige si le document a été évincé entre-temps.
+     * À appeler avant d'engager la réponse, pour qu'un refus puisse encore être signalé par un 503.
+     *
+     * @param export Export préparé par {@link #prepare}
+     * @return Permis à fermer une fois l'export écrit
+     */
+    RenderPermit admit(PreparedExport export);
+
+    /**
+     * Écrit le document, dans le format de l'export, directement dans le flux fourni,
+     * sans le bufferiser en entier.
+     * Le flux n'est pas fermé. L'appelant doit détenir un permis obtenu via {@link #admit} ;
+     * s'il est vide mais que le document doit finalement être rendu, un permis est pris ici.
+     *
+     * @param export Export préparé par {@link #prepare}
+     * @param out Flux de sortie (typiquement la réponse HTTP)
+     * @param permit Permis obtenu via {@link #admit}, libéré au plus tard à la fin du rendu
+     * @param deadline Échéance du rendu, annulée quand la requête HTTP se termine ({@link #deadline})
+     */
+    void write(PreparedExport export, OutputStream out, RenderPermit permit, RenderDeadline deadline)
+            throws IOException;
+
+    /**
+     * Nouvelle échéance de rendu, dont la durée est celle configurée ({@code export.limiter.deadline}).
+     * Passée à {@link #write} ou {@link #writePreview}, elle peut aussi être annulée par l'appelant.
+     */
+    RenderDeadline deadline();
+
+    /**
+     * Prépare l'aperçu d'un CV non enregistré, construit en mémoire depuis la requête,
+     * sans aucun accès à la base.
+     *
+     * @param request Contenu du CV en cours d'édition
+     * @param locale Locale pour la traduction
+     * @return Export prêt à être écrit par {@link #writePreview}
+     */
+    PreparedExport preparePreview(CVRequest request, Locale locale);
+
+    /**
+     * Demande l'autorisation de rendre un aperçu, soumis aux mêmes limites que les exports
+     * et compté dans les mêmes emplacements de l'utilisateur.
+     *
+     * @param userId Identifiant de l'utilisateur, porté par le principal authentifié
+     * @return Permis à fermer une fois l'aperçu écrit
+     */
+    RenderPermit admitPreview(String userId);
+
+    /**
+     * Écrit l'aperçu dans le flux fourni, sans passer par le cache des rendus ni le stockage disque
+     * (le contenu n'est pas enregistré et change à chaque frappe).
+     * L'appelant doit détenir un permis obtenu via {@link #admitPreview}.
+     *
+     * @param export Aperçu préparé par {@link #preparePreview}
+     * @param out Flux de sortie (typiquement la réponse HTTP)
+     * @param deadline Échéance du rendu ({@link #deadline})
+     */
+    void writePreview(PreparedExport export, OutputStream out, RenderDeadline deadline) throws IOException;
 }
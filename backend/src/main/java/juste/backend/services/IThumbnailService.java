@@ -0,0 +1,27 @@
+package juste.backend.services;
+
+import juste.backend.export.PreparedExport;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+public interface IThumbnailService {
+
+    /**
+     * Miniature PNG de la première page du CV, rastérisée une seule fois par contenu.
+     *
+     * @param export Export préparé par {@link IPDFExportService#prepare}
+     * @return Contenu du PNG en bytes
+     */
+    byte[] getThumbnail(PreparedExport export);
+
+    /**
+     * Version de la miniature : change avec le contenu du CV et avec la version du rendu,
+     * pour qu'une miniature mise en cache comme immuable ne survive pas à un changement du moteur.
+     *
+     * @param export Export préparé par {@link IPDFExportService#prepare}
+     * @return Version, utilisable telle quelle dans un ETag
+     */
+    String version(PreparedExport export);
+}
@@ -0,0 +1,173 @@
+package juste.backend.services.impl;
+
+import jakarta.annotation.PreDestroy;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.document.User;
+import juste.backend.exceptions.ResourceNotFoundException;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PreparedExport;
+import juste.backend.repositories.CVRepository;
+import juste.backend.repositories.UserRepository;
+import juste.backend.services.IBulkExportService;
+import juste.backend.services.IPDFExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Export groupé de tous les CV d'un utilisateur dans une archive ZIP.
+ * Au plus {@code export.bulk.parallelism} rendus (dans la limite du plafond par utilisateur
+ * de {@link juste.backend.export.PDFRenderLimiter}) sont en vol par requête :
+ * la mémoire utilisée dépend de ce nombre, pas du nombre total de CV.
+ * Une entrée qui ne peut pas être rendue interrompt l'archive : elle n'est jamais omise en silence.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Service
+public class BulkExportServiceImpl implements IBulkExportService {
+
+    private final CVRepository cvRepository;
+    private final UserRepository userRepository;
+    private final IPDFExportService pdfExportService;
+    private final OutputProfile profile;
+    private final int maxInFlight;
+    private final ExecutorService executor;
+
+    public BulkExportServiceImpl(CVRepository cvRepository,
+                                 UserRepository userRepository,
+                                 IPDFExportService pdfExportService,
+                                 ExportProperties exportProperties) {
+        this.cvRepository = cvRepository;
+        this.userRepository = userRepository;
+        this.pdfExportService = pdfExportService;
+        this.profile = exportProperties.getOutput().getBulk();
+        int parallelism = exportProperties.getBulk().getParallelism();
+        // Chaque rendu consomme un permis de l'utilisateur : inutile d'en lancer plus que son plafond
+        this.maxInFlight = Math.min(parallelism, exportProperties.getLimiter().getMaxPerUser());
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory("pdf-bulk-export-"));
+    }
+
+    @Override
+    public List<PreparedExport> prepareAll(String userEmail, Locale locale) {
+        log.info("Export groupé des CV de l'utilisateur: {} en langue: {}", userEmail, locale.getLanguage());
+
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("Utilisateur", "email", userEmail));
+
+        // Une seule requête pour tous les CV : la propriété est garantie par le filtre sur userId
+        List<CV> cvs = cvRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+
+        List<PreparedExport> exports = new ArrayList<>(cvs.size());
+        for (CV cv : cvs) {
+            exports.add(PreparedExport.of(cv, locale, profile));
+        }
+        return exports;
+    }
+
+    @Override
+    public void writeZip(List<PreparedExport> exports, OutputStream out) throws IOException {
+        CompletionService<RenderedCV> completionService = new ExecutorCompletionService<>(executor);
+        Set<Future<RenderedCV>> inFlight = new HashSet<>();
+        Iterator<PreparedExport> pending = exports.iterator();
+        boolean multiLocale = exports.stream().map(PreparedExport::locale).distinct().count() > 1;
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        try {
+            while (inFlight.size() < maxInFlight && pending.hasNext()) {
+                inFlight.add(submit(completionService, pending.next()));
+            }
+
+            while (!inFlight.isEmpty()) {
+                Future<RenderedCV> done = completionService.take();
+                inFlight.remove(done);
+
+                // On relance un rendu avant d'écrire, pour garder le pool occupé
+                if (pending.hasNext()) {
+                    inFlight.add(submit(completionService, pending.next()));
+                }
+
+                try {
+                    writeEntry(zip, done.get(), multiLocale);
+                } catch (ExecutionException e) {
+                    // Jamais d'archive incomplète sous un statut 200 : l'archive est abandonnée
+                    log.error("Export groupé interrompu suite à une erreur de rendu", e.getCause());
+                    throw new IOException("Rendu d'un CV de l'export groupé impossible", e.getCause());
+                }
+            }
+
+            zip.finish();
+            log.info("Export groupé terminé: {} CV", exports.size());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export groupé interrompu", e);
+        } finally {
+            // Client déconnecté ou erreur : inutile de finir les rendus restants
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Future<RenderedCV> submit(CompletionService<RenderedCV> completionService, PreparedExport export) {
+        // L'archive est acceptée : chaque entrée attend son permis plutôt que d'être refusée
+        return completionService.submit(() -> new RenderedCV(export, pdfExportService.renderQueued(export)));
+    }
+
+    /**
+     * Les PDF sont déjà compressés : ils sont stockés tels quels (STORED) dans l'archive.
+     */
+    private void writeEntry(ZipOutputStream zip, RenderedCV rendered, boolean withLanguage) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(rendered.pdf());
+
+        ZipEntry entry = new ZipEntry(entryName(rendered.export(), withLanguage));
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(rendered.pdf().length);
+        entry.setCompressedSize(rendered.pdf().length);
+        entry.setCrc(crc.getValue());
+
+        zip.putNextEntry(entry);
+        zip.write(rendered.pdf());
+        zip.closeEntry();
+    }
+
+    /**
+     * Nom de fichier unique dans l'archive : titre nettoyé suivi de l'ID du CV
+     * et, si demandé, de la langue.
+     */
+    private String entryName(PreparedExport export, boolean withLanguage) {
+        CV cv = export.cv();
+        String title = cv.getTitle() != null ? cv.getTitle() : "CV";
+        String suffix = withLanguage ? "_" + export.locale().getLanguage() : "";
+        return title.replaceAll("[^\\p{L}\\p{N}._-]+", "_") + "_" + cv.getId() + suffix + ".pdf";
+    }
+
+    private record RenderedCV(PreparedExport export, byte[] pdf) {
+    }
+}
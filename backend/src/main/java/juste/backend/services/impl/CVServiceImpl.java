@@ -7,6 +7,7 @@ import juste.backend.document.CV;
 import juste.backend.document.Styling;
 import juste.backend.document.User;
 import juste.backend.enums.Theme;
+import juste.backend.events.CVChangedEvent;
 import juste.backend.exceptions.ResourceNotFoundException;
 import juste.backend.exceptions.UnauthorizedException;
 import juste.backend.mappers.CVMapper;
@@ -15,6 +16,7 @@ import juste.backend.repositories.UserRepository;
 import juste.backend.services.ICVService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +35,7 @@ public class CVServiceImpl implements ICVService {
     private final CVRepository cvRepository;
     private final UserRepository userRepository;
     private final CVMapper cvMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -43,6 +46,7 @@ public class CVServiceImpl implements ICVService {
         CV cv = cvMapper.toDocument(request, user.getId());
 
         CV savedCV = cvRepository.save(cv);
+        eventPublisher.publishEvent(new CVChangedEvent(savedCV.getId(), savedCV.getUserId(), CVChangedEvent.Type.CREATED));
         log.info("CV créé avec succès, ID: {}", savedCV.getId());
 
         return cvMapper.toResponse(savedCV);
@@ -83,6 +87,7 @@ public class CVServiceImpl implements ICVService {
         cvMapper.updateDocument(cv, request);
 
         CV updatedCV = cvRepository.save(cv);
+        eventPublisher.publishEvent(new CVChangedEvent(cvId, cv.getUserId(), CVChangedEvent.Type.UPDATED));
         log.info("CV mis à jour avec succès: {}", cvId);
 
         return cvMapper.toResponse(updatedCV);
@@ -105,6 +110,7 @@ public class CVServiceImpl implements ICVService {
         cv.setStyling(styling);
 
         CV updatedCV = cvRepository.save(cv);
+        eventPublisher.publishEvent(new CVChangedEvent(cvId, cv.getUserId(), CVChangedEvent.Type.STYLING_UPDATED));
         log.info("Styling du CV mis à jour avec succès: {}", cvId);
 
         return cvMapper.toResponse(updatedCV);
@@ -119,6 +125,7 @@ public class CVServiceImpl implements ICVService {
         verifyOwnership(cv, userEmail);
 
         cvRepository.delete(cv);
+        eventPublisher.publishEvent(new CVChangedEvent(cvId, cv.getUserId(), CVChangedEvent.Type.DELETED));
         log.info("CV supprimé avec succès: {}", cvId);
     }
 
@@ -146,6 +153,7 @@ public class CVServiceImpl implements ICVService {
                 .build();
 
         CV savedCV = cvRepository.save(duplicatedCV);
+        eventPublisher.publishEvent(new CVChangedEvent(savedCV.getId(), savedCV.getUserId(), CVChangedEvent.Type.DUPLICATED));
         log.info("CV dupliqué avec succès, nouvel ID: {}", savedCV.getId());
 
         return cvMapper.toResponse(savedCV);
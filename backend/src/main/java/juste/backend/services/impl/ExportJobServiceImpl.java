@@ -0,0 +1,176 @@
+package juste.backend.services.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import juste.backend.config.ExportProperties;
+import juste.backend.dtos.responses.ExportJobResponse;
+import juste.backend.enums.ExportJobStatus;
+import juste.backend.exceptions.ConflictException;
+import juste.backend.exceptions.ResourceNotFoundException;
+import juste.backend.exceptions.ServiceUnavailableException;
+import juste.backend.export.ExportJob;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PreparedExport;
+import juste.backend.services.IExportJobService;
+import juste.backend.services.IPDFExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports PDF asynchrones : le rendu se fait sur un pool borné, hors des threads Tomcat,
+ * et le résultat reste téléchargeable pendant une durée limitée.
+ *
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Service
+public class ExportJobServiceImpl implements IExportJobService {
+
+    private final IPDFExportService pdfExportService;
+    private final OutputProfile profile;
+    private final Duration ttl;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final Timer waitTimer;
+    private final Timer renderTimer;
+
+    public ExportJobServiceImpl(IPDFExportService pdfExportService,
+                                ExportProperties exportProperties,
+                                MeterRegistry meterRegistry) {
+        ExportProperties.Jobs properties = exportProperties.getJobs();
+
+        this.pdfExportService = pdfExportService;
+        this.profile = exportProperties.getOutput().getJobs();
+        this.ttl = properties.getTtl();
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(), properties.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("pdf-export-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("cvpro.export.jobs.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("cvpro.export.jobs.retained", jobs, Map::size)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("cvpro.export.jobs.wait")
+                .description("Temps passé en file avant le début du rendu")
+                .register(meterRegistry);
+        this.renderTimer = Timer.builder("cvpro.export.jobs.render")
+                .description("Durée du rendu d'une tâche d'export")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ExportJobResponse submit(String cvId, String userEmail, Locale locale) {
+        // Chargement synchrone : un CV introuvable est signalé tout de suite
+        PreparedExport export = pdfExportService.prepare(cvId, userEmail, locale).withProfile(profile);
+        ExportJob job = new ExportJob(export, userEmail);
+
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            log.warn("File d'export pleine, tâche refusée pour le CV: {}", cvId);
+            throw new ServiceUnavailableException(
+                    "Trop d'exports en cours, veuillez réessayer dans quelques instants", 5);
+        }
+
+        log.info("Tâche d'export {} créée pour le CV: {}", job.getId(), cvId);
+        return toResponse(job);
+    }
+
+    @Override
+    public ExportJobResponse getStatus(String jobId, String userEmail) {
+        return toResponse(findJob(jobId, userEmail));
+    }
+
+    @Override
+    public byte[] getResult(String jobId, String userEmail) {
+        ExportJob job = findJob(jobId, userEmail);
+
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw new ConflictException("La tâche d'export n'est pas terminée (statut: " + job.getStatus() + ")");
+        }
+        return job.getResult();
+    }
+
+    /**
+     * Supprime les tâches terminées dont le résultat a expiré.
+     */
+    @Scheduled(fixedDelayString = "${export.jobs.sweep-interval:60000}")
+    public void purgeExpiredJobs() {
+        Instant now = Instant.now();
+        int before = jobs.size();
+        jobs.values().removeIf(job -> job.isFinished() && job.getCompletedAt().plus(ttl).isBefore(now));
+
+        int purged = before - jobs.size();
+        if (purged > 0) {
+            log.debug("{} tâche(s) d'export expirée(s) supprimée(s)", purged);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ExportJob job) {
+        job.markRunning();
+        waitTimer.record(Duration.between(job.getCreatedAt(), job.getStartedAt()));
+
+        Timer.Sample sample = Timer.start();
+        try {
+            // Tâche déjà acceptée (202) : elle attend son permis au lieu d'échouer sur un refus du limiteur
+            job.markCompleted(pdfExportService.renderQueued(job.getExport()));
+        } catch (Exception e) {
+            log.error("Échec de la tâche d'export {}", job.getId(), e);
+            job.markFailed("Erreur lors de la génération du PDF");
+        } finally {
+            sample.stop(renderTimer);
+        }
+    }
+
+    /**
+     * Une tâche d'un autre utilisateur est traitée comme introuvable.
+     */
+    private ExportJob findJob(String jobId, String userEmail) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.getUserEmail().equals(userEmail)) {
+            throw new ResourceNotFoundException("Tâche d'export", "id", jobId);
+        }
+        return job;
+    }
+
+    private ExportJobResponse toResponse(ExportJob job) {
+        Instant completedAt = job.getCompletedAt();
+        return new ExportJobResponse(
+                job.getId(),
+                job.getExport().cv().getId(),
+                job.getStatus().name(),
+                job.getExport().locale().getLanguage(),
+                job.getCreatedAt(),
+                completedAt,
+                completedAt != null ? completedAt.plus(ttl) : null,
+                job.getError()
+        );
+    }
+}
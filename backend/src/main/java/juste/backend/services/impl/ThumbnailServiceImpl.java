@@ -0,0 +1,49 @@
+package juste.backend.services.impl;
+
+import juste.backend.export.PDFThumbnailRenderer;
+import juste.backend.export.PreparedExport;
+import juste.backend.export.ThumbnailCache;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import juste.backend.services.IPDFExportService;
+import juste.backend.services.IThumbnailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailServiceImpl implements IThumbnailService {
+
+    private final IPDFExportService pdfExportService;
+    private final PDFThumbnailRenderer thumbnailRenderer;
+    private final ThumbnailCache thumbnailCache;
+    private final LayoutPlanRegistry layoutPlans;
+
+    @Override
+    public byte[] getThumbnail(PreparedExport export) {
+        String cvId = export.cv().getId();
+
+        String version = version(export);
+        byte[] cached = thumbnailCache.get(version);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Le PDF passe par le cache et le contrôle d'admission habituels
+        byte[] png = thumbnailRenderer.render(pdfExportService.render(export));
+        thumbnailCache.put(cvId, version, png);
+
+        log.info("Miniature générée pour le CV: {} ({} octets)", cvId, png.length);
+        return png;
+    }
+
+    @Override
+    public String version(PreparedExport export) {
+        return export.contentHash() + "-" + layoutPlans.getVersion();
+    }
+}
@@ -0,0 +1,63 @@
+package juste.backend.export;
+
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.document.Experience;
+import juste.backend.document.PersonalInfo;
+import juste.backend.export.layout.LabelTables;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class HTMLRenderEngineTest {
+
+    private HTMLRenderEngine renderEngine;
+
+    @BeforeEach
+    void setUp() {
+        ExportProperties properties = new ExportProperties();
+        LabelTables labelTables = new LabelTables();
+        renderEngine = new HTMLRenderEngine(labelTables,
+                new RenderPaletteCache(properties), new LayoutPlanRegistry(properties, labelTables));
+    }
+
+    @Test
+    void render_ShouldWriteSectionsInLayoutOrderWithEscapedContent() {
+        CV cv = CV.builder()
+                .id("cv123")
+                .title("CV Développeur")
+                .personalInfo(PersonalInfo.builder().fullName("John <Doe>").jobTitle("Développeur").build())
+                .summary("Développeur passionné")
+                .experiences(List.of(Experience.builder()
+                        .position("Développeur Java")
+                        .company("Acme")
+                        .startDate(LocalDate.of(2020, 1, 1))
+                        .isCurrent(true)
+                        .achievements(List.of("Migration vers Spring Boot 3"))
+                        .build()))
+                .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderEngine.render(PreparedExport.of(cv, Locale.ENGLISH, OutputProfile.STANDARD)
+                .withFormat(RenderFormat.HTML), out);
+        String html = out.toString(StandardCharsets.UTF_8);
+
+        assertTrue(html.startsWith("<!DOCTYPE html><html lang=\"en\">"));
+        assertTrue(html.contains("John &lt;Doe&gt;"));
+        assertTrue(html.contains("<li class=\"body\">Migration vers Spring Boot 3</li>"));
+        assertTrue(html.indexOf("Développeur passionné") < html.indexOf("Développeur Java"));
+        assertTrue(html.endsWith("</body></html>"));
+    }
+}
@@ -0,0 +1,92 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.exceptions.RenderAbortedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class InFlightRendersTest {
+
+    private InFlightRenders inFlightRenders;
+
+    @BeforeEach
+    void setUp() {
+        inFlightRenders = new InFlightRenders(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void join_WhileRenderRunning_ShouldShareLeaderResult() throws Exception {
+        byte[] pdf = {1, 2, 3};
+
+        try (InFlightRenders.Flight leader = inFlightRenders.join("hash:PDF:STANDARD")) {
+            assertTrue(leader.isLeader());
+            assertTrue(inFlightRenders.isRunning("hash:PDF:STANDARD"));
+
+            CompletableFuture<byte[]> follower = CompletableFuture.supplyAsync(() -> {
+                try (InFlightRenders.Flight flight = inFlightRenders.join("hash:PDF:STANDARD")) {
+                    assertFalse(flight.isLeader());
+                    return flight.await(RenderDeadline.none());
+                }
+            });
+
+            // Le suiveur attend le résultat du responsable
+            while (inFlightRenders.coalescedCount() < 1) {
+                Thread.onSpinWait();
+            }
+            leader.complete(pdf);
+            assertSame(pdf, follower.get(5, TimeUnit.SECONDS));
+        }
+
+        assertFalse(inFlightRenders.isRunning("hash:PDF:STANDARD"));
+        assertEquals(1, inFlightRenders.coalescedCount());
+    }
+
+    @Test
+    void await_WhenLeaderClosesWithoutResult_ShouldReturnNull() {
+        InFlightRenders.Flight leader = inFlightRenders.join("hash:PDF:STANDARD");
+        InFlightRenders.Flight follower = inFlightRenders.join("hash:PDF:STANDARD");
+
+        leader.close();
+
+        assertNull(follower.await(RenderDeadline.none()));
+        assertTrue(inFlightRenders.join("hash:PDF:STANDARD").isLeader());
+    }
+
+    @Test
+    void await_WhenLeaderNeverFinishes_ShouldGiveUpAtFollowerDeadlineOrCancellation() {
+        try (InFlightRenders.Flight leader = inFlightRenders.join("hash:PDF:STANDARD")) {
+            InFlightRenders.Flight follower = inFlightRenders.join("hash:PDF:STANDARD");
+
+            RenderAbortedException expired = assertThrows(RenderAbortedException.class,
+                    () -> follower.await(RenderDeadline.after(Duration.ofMillis(50))));
+            assertEquals(RenderAbortedException.Reason.DEADLINE, expired.getReason());
+
+            RenderDeadline cancelled = RenderDeadline.none();
+            CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(cancelled::cancel);
+            RenderAbortedException aborted = assertThrows(RenderAbortedException.class,
+                    () -> follower.await(cancelled));
+            assertEquals(RenderAbortedException.Reason.CANCELLED, aborted.getReason());
+            assertTrue(leader.isLeader());
+        }
+    }
+
+    @Test
+    void join_WithDifferentKeys_ShouldNotCoalesce() {
+        try (InFlightRenders.Flight fr = inFlightRenders.join("hash-fr:PDF:STANDARD");
+             InFlightRenders.Flight en = inFlightRenders.join("hash-en:PDF:STANDARD")) {
+            assertTrue(fr.isLeader());
+            assertTrue(en.isLeader());
+        }
+        assertEquals(0, inFlightRenders.coalescedCount());
+    }
+}
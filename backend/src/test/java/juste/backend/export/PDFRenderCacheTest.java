@@ -0,0 +1,112 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.document.PersonalInfo;
+import juste.backend.document.Styling;
+import juste.backend.enums.Theme;
+import juste.backend.events.CVChangedEvent;
+import juste.backend.export.layout.LabelTables;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class PDFRenderCacheTest {
+
+    private PDFRenderCache renderCache;
+    private CV cv;
+
+    @BeforeEach
+    void setUp() {
+        ExportProperties properties = new ExportProperties();
+        properties.getCache().setMaxBytes(100);
+        renderCache = new PDFRenderCache(properties, new LayoutPlanRegistry(properties, new LabelTables()),
+                new SimpleMeterRegistry());
+
+        cv = CV.builder()
+                .id("cv123")
+                .userId("user123")
+                .title("CV Développeur")
+                .personalInfo(PersonalInfo.builder().fullName("John Doe").build())
+                .summary("Développeur passionné")
+                .interests(List.of("Lecture"))
+                .styling(Styling.builder()
+                        .theme(Theme.LIGHT)
+                        .primaryColor("#3B82F6")
+                        .accentColor("#10B981")
+                        .build())
+                .build();
+    }
+
+    @Test
+    void hash_ShouldDependOnRenderedContentAndLocaleOnly() {
+        String hash = CVContentHasher.hash(cv, Locale.FRENCH);
+
+        cv.setTitle("Autre titre");
+        assertEquals(hash, CVContentHasher.hash(cv, Locale.FRENCH));
+
+        assertNotEquals(hash, CVContentHasher.hash(cv, Locale.ENGLISH));
+
+        cv.getStyling().setPrimaryColor("#000000");
+        assertNotEquals(hash, CVContentHasher.hash(cv, Locale.FRENCH));
+    }
+
+    @Test
+    void get_ShouldCountHitsAndMisses() {
+        String hash = CVContentHasher.hash(cv, Locale.FRENCH);
+
+        assertNull(renderCache.get(hash));
+        renderCache.put("cv123", hash, new byte[10]);
+        assertNotNull(renderCache.get(hash));
+
+        assertEquals(1, renderCache.hitCount());
+        assertEquals(1, renderCache.missCount());
+    }
+
+    @Test
+    void put_WhenBudgetExceeded_ShouldEvictLeastRecentlyUsed() {
+        renderCache.put("cv1", "a", new byte[40]);
+        renderCache.put("cv2", "b", new byte[40]);
+        renderCache.get("a");
+        renderCache.put("cv3", "c", new byte[40]);
+
+        assertNotNull(renderCache.get("a"));
+        assertNull(renderCache.get("b"));
+        assertNotNull(renderCache.get("c"));
+    }
+
+    @Test
+    void onCVChanged_ShouldInvalidateAllLocales() {
+        String fr = CVContentHasher.hash(cv, Locale.FRENCH);
+        String en = CVContentHasher.hash(cv, Locale.ENGLISH);
+        renderCache.put("cv123", fr, new byte[10]);
+        renderCache.put("cv123", en, new byte[10]);
+
+        renderCache.onCVChanged(new CVChangedEvent("cv123", "user123", CVChangedEvent.Type.UPDATED));
+
+        assertNull(renderCache.get(fr));
+        assertNull(renderCache.get(en));
+    }
+
+    @Test
+    void invalidate_WithContentSharedByTwoCVs_ShouldKeepEntryUntilBothChanged() {
+        renderCache.put("cv1", "a", new byte[10]);
+        renderCache.put("cv2", "a", new byte[10]);
+
+        renderCache.invalidate("cv1");
+        assertNotNull(renderCache.get("a"));
+
+        renderCache.invalidate("cv2");
+        assertNull(renderCache.get("a"));
+    }
+}
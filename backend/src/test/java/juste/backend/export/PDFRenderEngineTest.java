@@ -0,0 +1,205 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.document.Experience;
+import juste.backend.document.PersonalInfo;
+import juste.backend.exceptions.RenderAbortedException;
+import juste.backend.export.layout.LabelTables;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class PDFRenderEngineTest {
+
+    private PDFRenderEngine renderEngine;
+
+    @BeforeEach
+    void setUp() {
+        renderEngine = renderEngine(new ExportProperties());
+    }
+
+    private static PDFRenderEngine renderEngine(ExportProperties properties) {
+        return renderEngine(properties, new SimpleMeterRegistry());
+    }
+
+    private static PDFRenderEngine renderEngine(ExportProperties properties, SimpleMeterRegistry meterRegistry) {
+        LabelTables labelTables = new LabelTables();
+        return new PDFRenderEngine(labelTables, new RenderPaletteCache(properties),
+                new LayoutPlanRegistry(properties, labelTables),
+                new SectionFragmentCache(properties, new SimpleMeterRegistry()),
+                new SectionBuildPool(properties),
+                new ExportMetrics(meterRegistry));
+    }
+
+    @Test
+    void render_WithNonLatinText_ShouldEmbedSubsetUnicodeFonts() throws Exception {
+        CV cv = CV.builder()
+                .id("cv123")
+                .personalInfo(PersonalInfo.builder().fullName("Nguyễn Văn Ɛdzɔ").jobTitle("Дмитрий Ковалёв").build())
+                .summary("Kafui Ŋɔtsie — développeur")
+                .interests(List.of("Ɖeɖe", "Phở"))
+                .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderEngine.render(cv, Locale.FRENCH, OutputProfile.STANDARD, out);
+
+        try (PDDocument document = Loader.loadPDF(out.toByteArray())) {
+            String text = new PDFTextStripper().getText(document);
+            assertTrue(text.contains("Nguyễn Văn Ɛdzɔ"));
+            assertTrue(text.contains("Дмитрий Ковалёв"));
+            assertTrue(text.contains("Kafui Ŋɔtsie"));
+            assertTrue(text.contains("Résumé Professionnel"));
+
+            PDResources resources = document.getPage(0).getResources();
+            for (COSName name : resources.getFontNames()) {
+                // Préfixe de sous-ensemble (ex. ABCDEF+DejaVuSans) : seuls les glyphes utilisés sont embarqués
+                assertTrue(resources.getFont(name).getName().matches("[A-Z]{6}\\+DejaVuSans.*"),
+                        resources.getFont(name).getName());
+            }
+        }
+    }
+
+    @Test
+    void render_SameRenderKey_ShouldProduceIdenticalBytesWhateverTheUpdateDate() throws Exception {
+        for (OutputProfile profile : OutputProfile.values()) {
+            // Même clé de rendu, dates de modification du CV différentes
+            PreparedExport first = PreparedExport.of(
+                    reproducibleCV(LocalDateTime.of(2026, 10, 18, 9, 30)), Locale.FRENCH, profile);
+            PreparedExport second = PreparedExport.of(
+                    reproducibleCV(LocalDateTime.of(2026, 10, 19, 17, 45)), Locale.FRENCH, profile);
+            assertEquals(first.renderKey(), second.renderKey());
+
+            // Deux moteurs distincts : aucun fragment partagé d'un rendu à l'autre
+            ByteArrayOutputStream firstOut = new ByteArrayOutputStream();
+            renderEngine.render(first, firstOut);
+            ByteArrayOutputStream secondOut = new ByteArrayOutputStream();
+            renderEngine(new ExportProperties()).render(second, secondOut);
+
+            if (profile.isDeterministic()) {
+                assertArrayEquals(firstOut.toByteArray(), secondOut.toByteArray(), profile.name());
+            }
+            assertStampedFromExport(firstOut.toByteArray(), first);
+            assertStampedFromExport(secondOut.toByteArray(), second);
+        }
+    }
+
+    /**
+     * Dates et identifiant du fichier fixés d'après l'export, pas d'après l'heure du rendu.
+     */
+    private static void assertStampedFromExport(byte[] pdf, PreparedExport export) throws Exception {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            PDDocumentInformation info = document.getDocumentInformation();
+            assertEquals(PDFRenderEngine.DOCUMENT_DATE.toInstant(), info.getCreationDate().toInstant());
+            assertEquals(PDFRenderEngine.DOCUMENT_DATE.toInstant(), info.getModificationDate().toInstant());
+
+            String expectedId = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(export.renderKey().getBytes(StandardCharsets.UTF_8)), 0, 16);
+            COSArray id = document.getDocument().getTrailer().getCOSArray(COSName.ID);
+            assertEquals(2, id.size(), export.profile().name());
+            for (int i = 0; i < id.size(); i++) {
+                assertEquals(expectedId, ((COSString) id.getObject(i)).toHexString().toLowerCase(Locale.ROOT),
+                        export.profile().name());
+            }
+        }
+    }
+
+    private static CV reproducibleCV(LocalDateTime updatedAt) {
+        return CV.builder()
+                .id("cv123")
+                .personalInfo(PersonalInfo.builder().fullName("Kafui Ŋɔtsie").jobTitle("Développeur").build())
+                .summary("Développeur passionné")
+                .interests(List.of("Lecture"))
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    @Test
+    void render_WithCancelledOrExpiredDeadline_ShouldStopAndCountAbortedRender() {
+        CV cv = CV.builder()
+                .id("cv123")
+                .personalInfo(PersonalInfo.builder().fullName("John Doe").build())
+                .summary("Développeur passionné")
+                .build();
+        PreparedExport export = PreparedExport.of(cv, Locale.FRENCH, OutputProfile.STANDARD);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PDFRenderEngine engine = renderEngine(new ExportProperties(), meterRegistry);
+
+        RenderDeadline cancelled = RenderDeadline.none();
+        cancelled.cancel();
+        RenderAbortedException aborted = assertThrows(RenderAbortedException.class,
+                () -> engine.render(export, new ByteArrayOutputStream(), cancelled));
+        assertEquals(RenderAbortedException.Reason.CANCELLED, aborted.getReason());
+
+        RenderDeadline expired = RenderDeadline.after(Duration.ZERO);
+        aborted = assertThrows(RenderAbortedException.class,
+                () -> engine.render(export, new ByteArrayOutputStream(), expired));
+        assertEquals(RenderAbortedException.Reason.DEADLINE, aborted.getReason());
+
+        assertEquals(1, meterRegistry.get("cvpro.export.aborted").tag("reason", "cancelled").counter().count());
+        assertEquals(1, meterRegistry.get("cvpro.export.aborted").tag("reason", "deadline").counter().count());
+        assertTrue(meterRegistry.find("cvpro.export.failures").counters().isEmpty());
+    }
+
+    @Test
+    void render_WithParallelSections_ShouldKeepLayoutOrder() throws Exception {
+        List<Experience> experiences = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            experiences.add(Experience.builder()
+                    .position("Développeur " + i)
+                    .company("Entreprise " + i)
+                    .startDate(LocalDate.of(2010, 1, 1).plusMonths(i))
+                    .achievements(List.of("Réalisation " + i))
+                    .build());
+        }
+        CV cv = CV.builder()
+                .id("cv123")
+                .personalInfo(PersonalInfo.builder().fullName("John Doe").build())
+                .summary("Développeur passionné")
+                .experiences(experiences)
+                .interests(List.of("Lecture", "Voyages"))
+                .build();
+
+        ExportProperties sequential = new ExportProperties();
+        sequential.getParallel().setParallelism(1);
+        ExportProperties parallel = new ExportProperties();
+        parallel.getParallel().setParallelism(4);
+        parallel.getParallel().setMinItems(0);
+
+        assertEquals(text(renderEngine(sequential), cv), text(renderEngine(parallel), cv));
+    }
+
+    private static String text(PDFRenderEngine engine, CV cv) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        engine.render(cv, Locale.FRENCH, OutputProfile.STANDARD, out);
+        try (PDDocument document = Loader.loadPDF(out.toByteArray())) {
+            return new PDFTextStripper().getText(document);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.exceptions.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class PDFRenderLimiterTest {
+
+    private PDFRenderLimiter renderLimiter;
+
+    @BeforeEach
+    void setUp() {
+        ExportProperties properties = new ExportProperties();
+        properties.getLimiter().setMaxConcurrent(2);
+        properties.getLimiter().setMaxQueued(0);
+        properties.getLimiter().setMaxPerUser(1);
+        properties.getLimiter().setMaxWait(Duration.ofMillis(10));
+        properties.getLimiter().setRetryAfter(Duration.ofSeconds(3));
+        renderLimiter = new PDFRenderLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void acquire_WhenUserAlreadyRendering_ShouldRejectWithRetryAfter() {
+        RenderPermit permit = renderLimiter.acquire("user123");
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> renderLimiter.acquire("user123"));
+        assertEquals(3, ex.getRetryAfterSeconds());
+
+        permit.close();
+        assertDoesNotThrow(() -> renderLimiter.acquire("user123").close());
+    }
+
+    @Test
+    void acquire_WhenAllPermitsTakenAndQueueFull_ShouldReject() {
+        RenderPermit first = renderLimiter.acquire("user1");
+        RenderPermit second = renderLimiter.acquire("user2");
+
+        assertThrows(ServiceUnavailableException.class, () -> renderLimiter.acquire("user3"));
+
+        first.close();
+        second.close();
+        assertDoesNotThrow(() -> renderLimiter.acquire("user3").close());
+    }
+
+    @Test
+    void acquireQueued_WhenSaturated_ShouldWaitInsteadOfRejecting() throws Exception {
+        RenderPermit first = renderLimiter.acquire("user1");
+        RenderPermit second = renderLimiter.acquire("user2");
+
+        CompletableFuture<RenderPermit> queued = CompletableFuture.supplyAsync(() -> renderLimiter.acquireQueued("user1"));
+        Thread.sleep(50);
+        assertFalse(queued.isDone());
+
+        // Il faut à la fois l'emplacement de user1 et un permis global
+        first.close();
+        queued.get(1, TimeUnit.SECONDS).close();
+        second.close();
+    }
+
+    @Test
+    void acquireQueued_WhileWaiting_ShouldCountAsQueuedAndGiveUpAfterMaxQueuedWait() throws Exception {
+        ExportProperties properties = new ExportProperties();
+        properties.getLimiter().setMaxConcurrent(1);
+        properties.getLimiter().setMaxQueuedWait(Duration.ofMillis(300));
+        PDFRenderLimiter limiter = new PDFRenderLimiter(properties, new SimpleMeterRegistry());
+        RenderPermit busy = limiter.acquire("user1");
+
+        CompletableFuture<RenderPermit> queued = CompletableFuture.supplyAsync(() -> limiter.acquireQueued("user2"));
+        Thread.sleep(50);
+        assertEquals(1, limiter.waiting());
+
+        // Un rendu déjà accepté attend : le pré-rendu ne passe pas devant
+        busy.close();
+        assertNull(limiter.tryAcquireBackground());
+        queued.get(1, TimeUnit.SECONDS).close();
+        assertEquals(0, limiter.waiting());
+
+        busy = limiter.acquire("user1");
+        ExecutionException timedOut = assertThrows(ExecutionException.class,
+                () -> CompletableFuture.supplyAsync(() -> limiter.acquireQueued("user2")).get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ServiceUnavailableException.class, timedOut.getCause());
+        assertEquals(0, limiter.waiting());
+        busy.close();
+    }
+
+    @Test
+    void tryAcquireBackground_ShouldUseNoUserSlotAndSkipWhenBusy() {
+        RenderPermit background = renderLimiter.tryAcquireBackground();
+        assertNotNull(background);
+
+        // Le pré-rendu n'occupe pas l'unique emplacement de l'utilisateur
+        RenderPermit interactive = renderLimiter.acquire("user1");
+
+        // Tous les permis sont pris : le pré-rendu est abandonné, sans attente
+        assertNull(renderLimiter.tryAcquireBackground());
+
+        background.close();
+        interactive.close();
+    }
+
+    @Test
+    void close_WhenCalledTwice_ShouldReleaseOnlyOnce() {
+        RenderPermit permit = renderLimiter.acquire("user1");
+        permit.close();
+        permit.close();
+
+        RenderPermit first = renderLimiter.acquire("user1");
+        RenderPermit second = renderLimiter.acquire("user2");
+        assertThrows(ServiceUnavailableException.class, () -> renderLimiter.acquire("user3"));
+
+        first.close();
+        second.close();
+    }
+}
@@ -0,0 +1,83 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class RenderBufferPoolTest {
+
+    private RenderBufferPool bufferPool;
+    private SimpleMeterRegistry meterRegistry;
+    private PreparedExport export;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bufferPool = new RenderBufferPool(new ExportProperties(), meterRegistry);
+
+        CV cv = CV.builder()
+                .id("cv123")
+                .summary("Développeur passionné")
+                .interests(List.of("Lecture", "Voyages"))
+                .build();
+        export = PreparedExport.of(cv, Locale.FRENCH, OutputProfile.STANDARD);
+    }
+
+    @Test
+    void acquire_AfterRelease_ShouldReuseSameArray() {
+        byte[] first;
+        try (RenderBuffer buffer = bufferPool.acquire(export)) {
+            buffer.write(new byte[]{1, 2, 3}, 0, 3);
+            first = buffer.toByteArray();
+        }
+
+        try (RenderBuffer buffer = bufferPool.acquire(export)) {
+            buffer.write(7);
+            // Le contenu précédent n'est pas visible : seul ce qui est écrit compte
+            assertArrayEquals(new byte[]{7}, buffer.toByteArray());
+        }
+        assertArrayEquals(new byte[]{1, 2, 3}, first);
+        assertTrue(meterRegistry.get("cvpro.export.buffers.pooled").gauge().value() > 0);
+    }
+
+    @Test
+    void acquire_AfterLargeRender_ShouldPredictCapacity() {
+        byte[] pdf = new byte[300 * 1024];
+
+        try (RenderBuffer buffer = bufferPool.acquire(export)) {
+            buffer.write(pdf, 0, pdf.length);
+            bufferPool.record(export, buffer.size());
+            assertEquals(pdf.length, buffer.size());
+        }
+        double resized = meterRegistry.get("cvpro.export.buffers.resized").counter().count();
+        assertTrue(resized > 0);
+
+        // Plusieurs rendus de même forme rapprochent la prédiction de la taille réelle
+        for (int i = 0; i < 20; i++) {
+            bufferPool.record(export, pdf.length);
+        }
+        try (RenderBuffer buffer = bufferPool.acquire(export)) {
+            buffer.write(pdf, 0, pdf.length);
+        }
+        assertEquals(resized, meterRegistry.get("cvpro.export.buffers.resized").counter().count());
+    }
+
+    @Test
+    void write_AfterClose_ShouldFail() {
+        RenderBuffer buffer = bufferPool.acquire(export);
+        buffer.close();
+
+        assertThrows(IllegalStateException.class, () -> buffer.write(1));
+    }
+}
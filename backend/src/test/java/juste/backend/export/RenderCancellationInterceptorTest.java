@@ -0,0 +1,50 @@
+package juste.backend.export;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class RenderCancellationInterceptorTest {
+
+    private final RenderCancellationInterceptor interceptor = new RenderCancellationInterceptor();
+    private final Callable<Object> task = () -> null;
+    private final AtomicInteger released = new AtomicInteger();
+    private NativeWebRequest request;
+    private RenderDeadline deadline;
+
+    @BeforeEach
+    void setUp() {
+        request = new ServletWebRequest(new MockHttpServletRequest());
+        deadline = RenderCancellationInterceptor.bind(request, RenderDeadline.none(),
+                new RenderPermit(released::incrementAndGet));
+    }
+
+    @Test
+    void afterCompletion_WhenBodyNeverStarted_ShouldReleasePermit() {
+        interceptor.afterCompletion(request, task);
+
+        assertEquals(1, released.get());
+        assertTrue(deadline.isCancelled());
+    }
+
+    @Test
+    void handleTimeout_WhenBodyStarted_ShouldLeavePermitToBody() throws Exception {
+        interceptor.preProcess(request, task);
+        interceptor.handleTimeout(request, task);
+        interceptor.afterCompletion(request, task);
+
+        assertEquals(0, released.get());
+        assertTrue(deadline.isCancelled());
+    }
+}
@@ -0,0 +1,114 @@
+package juste.backend.export;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.events.CVChangedEvent;
+import juste.backend.export.layout.LabelTables;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class RenderStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private ExportProperties properties;
+    private RenderStore renderStore;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExportProperties();
+        properties.getStore().setDirectory(directory);
+        properties.getStore().setMaxBytes(10);
+        renderStore = newStore();
+    }
+
+    @Test
+    void transferTo_AfterPut_ShouldWriteStoredDocument() throws Exception {
+        PreparedExport export = export("cv1", "Résumé");
+        renderStore.put(export, new byte[]{1, 2, 3});
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(renderStore.transferTo(export, out));
+        assertArrayEquals(new byte[]{1, 2, 3}, out.toByteArray());
+        assertArrayEquals(new byte[]{1, 2, 3}, renderStore.read(export));
+        assertFalse(renderStore.transferTo(export("cv1", "Autre"), out));
+    }
+
+    @Test
+    void read_AfterRestart_ShouldFindStoredDocument() {
+        PreparedExport export = export("cv1", "Résumé");
+        renderStore.put(export, new byte[]{1, 2, 3});
+
+        RenderStore restarted = newStore();
+
+        assertTrue(restarted.contains(export));
+        assertArrayEquals(new byte[]{1, 2, 3}, restarted.read(export));
+    }
+
+    @Test
+    void put_OverBudget_ShouldEvictLeastRecentlyUsed() {
+        PreparedExport first = export("cv1", "Premier");
+        PreparedExport second = export("cv2", "Deuxième");
+        PreparedExport third = export("cv3", "Troisième");
+
+        renderStore.put(first, new byte[4]);
+        renderStore.put(second, new byte[4]);
+        renderStore.read(first);
+        renderStore.put(third, new byte[4]);
+
+        assertTrue(renderStore.contains(first));
+        assertFalse(renderStore.contains(second));
+        assertTrue(renderStore.contains(third));
+        assertFalse(newStore().contains(second));
+    }
+
+    @Test
+    void onCVChanged_ShouldDeleteStoredDocuments() {
+        PreparedExport export = export("cv1", "Résumé");
+        renderStore.put(export, new byte[]{1, 2, 3});
+
+        renderStore.onCVChanged(new CVChangedEvent("cv1", "user1", CVChangedEvent.Type.UPDATED));
+
+        assertFalse(renderStore.contains(export));
+        assertFalse(newStore().contains(export));
+    }
+
+    @Test
+    void load_ShouldDeleteOtherVersionsOnly() throws Exception {
+        Path staleVersion = Files.createDirectories(directory.resolve("0123456789ab").resolve("cv1"));
+        Files.write(staleVersion.resolve("ancien.pdf"), new byte[]{1});
+        Path unrelatedDirectory = Files.createDirectories(directory.resolve("sauvegardes"));
+        Path unrelatedFile = Files.write(directory.resolve("notes.txt"), new byte[]{1});
+
+        newStore();
+
+        assertFalse(Files.exists(staleVersion.getParent()));
+        assertTrue(Files.isDirectory(unrelatedDirectory));
+        assertTrue(Files.exists(unrelatedFile));
+    }
+
+    private RenderStore newStore() {
+        return new RenderStore(properties, new LayoutPlanRegistry(properties, new LabelTables()),
+                new SimpleMeterRegistry());
+    }
+
+    private static PreparedExport export(String cvId, String summary) {
+        CV cv = CV.builder().id(cvId).userId("user1").summary(summary).build();
+        return PreparedExport.of(cv, Locale.FRENCH, OutputProfile.STANDARD);
+    }
+}
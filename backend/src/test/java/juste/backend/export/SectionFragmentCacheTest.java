@@ -0,0 +1,124 @@
+package juste.backend.export;
+
+import com.itextpdf.text.Element;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.document.PersonalInfo;
+import juste.backend.export.layout.LabelTables;
+import juste.backend.export.layout.LayoutPlan;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import juste.backend.export.layout.RenderContext;
+import juste.backend.export.layout.SectionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class SectionFragmentCacheTest {
+
+    private SectionFragmentCache fragmentCache;
+    private RenderPaletteCache paletteCache;
+    private LayoutPlanRegistry layoutPlans;
+    private LabelTables labelTables;
+    private CV cv;
+
+    @BeforeEach
+    void setUp() {
+        ExportProperties properties = new ExportProperties();
+        fragmentCache = new SectionFragmentCache(properties, new SimpleMeterRegistry());
+        paletteCache = new RenderPaletteCache(properties);
+        labelTables = new LabelTables();
+        layoutPlans = new LayoutPlanRegistry(properties, labelTables);
+
+        cv = CV.builder()
+                .id("cv123")
+                .personalInfo(PersonalInfo.builder().fullName("John Doe").jobTitle("Développeur").build())
+                .summary("Développeur passionné")
+                .interests(List.of("Lecture", "Voyages"))
+                .build();
+    }
+
+    @Test
+    void get_AfterSingleSectionEdit_ShouldOnlyRebuildThatSection() throws Exception {
+        buildAll(cv, Locale.FRENCH);
+
+        cv.setSummary("Développeur backend passionné");
+        buildAll(cv, Locale.FRENCH);
+
+        assertEquals(1, fragmentCache.hitCount(SectionType.PERSONAL_INFO));
+        assertEquals(1, fragmentCache.hitCount(SectionType.INTERESTS));
+        assertEquals(0, fragmentCache.hitCount(SectionType.SUMMARY));
+        assertEquals(2, fragmentCache.missCount(SectionType.SUMMARY));
+    }
+
+    @Test
+    void get_WithAnotherLocale_ShouldNotReuseFragments() throws Exception {
+        buildAll(cv, Locale.FRENCH);
+        buildAll(cv, Locale.ENGLISH);
+
+        assertEquals(0, fragmentCache.hitCount(SectionType.SUMMARY));
+        assertEquals(2, fragmentCache.missCount(SectionType.SUMMARY));
+    }
+
+    @Test
+    void get_OnHit_ShouldReturnNewElementsForEachRender() {
+        LayoutPlan.Step step = step(SectionType.SUMMARY);
+        RenderContext context = context(Locale.FRENCH);
+
+        List<Element> first = fragmentCache.get(step, cv, context);
+        List<Element> second = fragmentCache.get(step, cv, context);
+
+        assertEquals(1, fragmentCache.hitCount(SectionType.SUMMARY));
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertNotSame(first.get(i), second.get(i));
+        }
+    }
+
+    @Test
+    void get_OverByteBudget_ShouldEvictSections() {
+        ExportProperties properties = new ExportProperties();
+        properties.getFragments().setMaxBytes(1024);
+        SectionFragmentCache smallCache = new SectionFragmentCache(properties, new SimpleMeterRegistry());
+        LayoutPlan.Step step = step(SectionType.SUMMARY);
+
+        for (int i = 0; i < 20; i++) {
+            cv.setSummary("Développeur passionné " + i + " ".repeat(100));
+            smallCache.get(step, cv, context(Locale.FRENCH));
+            assertTrue(smallCache.weight() <= 1024);
+        }
+        assertTrue(smallCache.weight() > 0);
+    }
+
+    private LayoutPlan.Step step(SectionType section) {
+        return context(Locale.FRENCH).layout().getSteps().stream()
+                .filter(step -> step.section() == section)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private RenderContext context(Locale locale) {
+        RenderPalette palette = paletteCache.get(cv.getStyling());
+        return new RenderContext(palette, layoutPlans.get(palette.getTheme()), locale, labelTables.get(locale));
+    }
+
+    private void buildAll(CV cv, Locale locale) throws Exception {
+        RenderPalette palette = paletteCache.get(cv.getStyling());
+        LayoutPlan layout = layoutPlans.get(palette.getTheme());
+        RenderContext context = new RenderContext(palette, layout, locale, labelTables.get(locale));
+
+        for (LayoutPlan.Step step : layout.getSteps()) {
+            if (step.section().isPresent(cv)) {
+                assertFalse(fragmentCache.get(step, cv, context).isEmpty());
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package juste.backend.export.layout;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.export.ExportMetrics;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PDFRenderEngine;
+import juste.backend.export.RenderPaletteCache;
+import juste.backend.export.SectionBuildPool;
+import juste.backend.export.SectionFragmentCache;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class LabelTablesTest {
+
+    private final LabelTables labelTables = new LabelTables();
+
+    @Test
+    void get_ShouldReturnLabelsOfRequestedLocale() {
+        assertEquals("Professional Summary", labelTables.get(Locale.ENGLISH).get("cv.summary"));
+        assertEquals("Résumé Professionnel", labelTables.get(Locale.FRENCH).get("cv.summary"));
+        assertEquals("Present", labelTables.get(Locale.UK).get("cv.present"));
+    }
+
+    @Test
+    void get_WithUnsupportedLocale_ShouldFallBackToFrench() {
+        Labels labels = labelTables.get(Locale.GERMAN);
+
+        assertEquals(Locale.FRENCH, labels.getLocale());
+        assertEquals("Présent", labels.get("cv.present"));
+    }
+
+    @Test
+    void get_WithUnknownCode_ShouldReturnCode() {
+        assertEquals("cv.unknown", labelTables.get(Locale.ENGLISH).get("cv.unknown"));
+    }
+
+    @Test
+    void refresh_WithoutChange_ShouldKeepSameTables() {
+        Labels before = labelTables.get(Locale.ENGLISH);
+
+        labelTables.refresh();
+
+        assertSame(before, labelTables.get(Locale.ENGLISH));
+    }
+
+    @Test
+    void refresh_WhenBundleChanges_ShouldChangeVersionAndRenderedLabel(@TempDir Path directory) throws Exception {
+        Path bundle = directory.resolve("messages_fr.properties");
+        Files.writeString(bundle, "cv.summary=Profil\n", StandardCharsets.UTF_8);
+        LabelTables tables = new LabelTables("file:" + directory + "/messages_*.properties");
+        ExportProperties properties = new ExportProperties();
+        LayoutPlanRegistry layoutPlans = new LayoutPlanRegistry(properties, tables);
+        PDFRenderEngine engine = new PDFRenderEngine(tables, new RenderPaletteCache(properties), layoutPlans,
+                new SectionFragmentCache(properties, new SimpleMeterRegistry()), new SectionBuildPool(properties),
+                new ExportMetrics(new SimpleMeterRegistry()));
+        CV cv = CV.builder().id("cv123").summary("Développeur passionné").build();
+
+        String labelsVersion = tables.getVersion();
+        String layoutVersion = layoutPlans.getVersion();
+        assertTrue(text(engine, cv).contains("PROFIL"));
+
+        Files.writeString(bundle, "cv.summary=Parcours\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(bundle, FileTime.fromMillis(Files.getLastModifiedTime(bundle).toMillis() + 1000));
+        tables.refresh();
+
+        assertNotEquals(labelsVersion, tables.getVersion());
+        assertNotEquals(layoutVersion, layoutPlans.getVersion());
+        String text = text(engine, cv);
+        assertTrue(text.contains("PARCOURS"));
+        assertFalse(text.contains("PROFIL"));
+    }
+
+    private static String text(PDFRenderEngine engine, CV cv) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        engine.render(cv, Locale.FRENCH, OutputProfile.STANDARD, out);
+        try (PDDocument document = Loader.loadPDF(out.toByteArray())) {
+            return new PDFTextStripper().getText(document);
+        }
+    }
+}
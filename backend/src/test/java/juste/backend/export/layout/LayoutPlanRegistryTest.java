@@ -0,0 +1,71 @@
+package juste.backend.export.layout;
+
+import juste.backend.config.ExportProperties;
+import juste.backend.enums.Theme;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class LayoutPlanRegistryTest {
+
+    private final LabelTables labelTables = new LabelTables();
+
+    @Test
+    void get_WithoutConfiguration_ShouldUseBuiltInLayoutForEveryTheme() {
+        LayoutPlanRegistry registry = new LayoutPlanRegistry(new ExportProperties(), labelTables);
+
+        for (Theme theme : Theme.values()) {
+            LayoutPlan plan = registry.get(theme);
+            assertEquals(List.of(SectionType.values()),
+                    plan.getSteps().stream().map(LayoutPlan.Step::section).toList());
+            assertTrue(plan.isUppercaseTitles());
+            assertTrue(plan.isHeaderSeparator());
+            assertEquals(20, plan.getListIndentation());
+        }
+        assertSame(registry.get(Theme.LIGHT), registry.get(null));
+    }
+
+    @Test
+    void get_WithConfiguredLayout_ShouldFollowDeclaredOrder() {
+        LayoutDefinition definition = new LayoutDefinition();
+        definition.setSections(List.of(SectionType.PERSONAL_INFO, SectionType.SKILLS, SectionType.EXPERIENCES));
+        definition.getSectionTitle().setUppercase(false);
+
+        ExportProperties properties = new ExportProperties();
+        properties.getLayouts().put(Theme.DARK, definition);
+        LayoutPlanRegistry registry = new LayoutPlanRegistry(properties, labelTables);
+
+        LayoutPlan dark = registry.get(Theme.DARK);
+        assertEquals(List.of(SectionType.PERSONAL_INFO, SectionType.SKILLS, SectionType.EXPERIENCES),
+                dark.getSteps().stream().map(LayoutPlan.Step::section).toList());
+        assertFalse(dark.isUppercaseTitles());
+        assertEquals(SectionType.values().length, registry.get(Theme.LIGHT).getSteps().size());
+    }
+
+    @Test
+    void getVersion_ShouldChangeOnlyWithLayoutConfiguration() {
+        String builtIn = new LayoutPlanRegistry(new ExportProperties(), labelTables).getVersion();
+        assertEquals(builtIn, new LayoutPlanRegistry(new ExportProperties(), labelTables).getVersion());
+
+        LayoutDefinition definition = new LayoutDefinition();
+        definition.getListStyle().setSymbol("-");
+        ExportProperties properties = new ExportProperties();
+        properties.getLayouts().put(Theme.LIGHT, definition);
+
+        assertNotEquals(builtIn, new LayoutPlanRegistry(properties, labelTables).getVersion());
+    }
+
+    @Test
+    void compile_WithDuplicateSection_ShouldFail() {
+        LayoutDefinition definition = new LayoutDefinition();
+        definition.setSections(List.of(SectionType.SUMMARY, SectionType.SUMMARY));
+
+        assertThrows(IllegalStateException.class, () -> LayoutPlanRegistry.compile(Theme.LIGHT, definition));
+    }
+}
@@ -0,0 +1,122 @@
+package juste.backend.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.exceptions.ServiceUnavailableException;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PDFRenderLimiter;
+import juste.backend.export.PreparedExport;
+import juste.backend.export.RenderPermit;
+import juste.backend.repositories.CVRepository;
+import juste.backend.repositories.UserRepository;
+import juste.backend.services.impl.BulkExportServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkExportServiceImplTest {
+
+    @Mock
+    private CVRepository cvRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private IPDFExportService pdfExportService;
+
+    private ExportProperties properties;
+    private BulkExportServiceImpl bulkExportService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExportProperties();
+        properties.getLimiter().setMaxConcurrent(1);
+        properties.getLimiter().setMaxQueued(0);
+        properties.getLimiter().setMaxWait(Duration.ofMillis(10));
+        bulkExportService = new BulkExportServiceImpl(cvRepository, userRepository, pdfExportService, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkExportService.shutdown();
+    }
+
+    @Test
+    void writeZip_WithSaturatedLimiter_ShouldWaitAndWriteEveryEntry() throws Exception {
+        PDFRenderLimiter renderLimiter = new PDFRenderLimiter(properties, new SimpleMeterRegistry());
+        when(pdfExportService.renderQueued(any())).thenAnswer(invocation -> {
+            PreparedExport export = invocation.getArgument(0);
+            try (RenderPermit permit = renderLimiter.acquireQueued(export.cv().getUserId())) {
+                return ("%PDF " + export.cv().getId()).getBytes();
+            }
+        });
+
+        // Le seul permis est pris par un autre téléchargement, libéré un peu plus tard
+        RenderPermit busy = renderLimiter.acquire("other-user");
+        CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS).execute(busy::close);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bulkExportService.writeZip(exports("cv1", "cv2", "cv3"), out);
+
+        assertEquals(3, entryNames(out.toByteArray()).size());
+    }
+
+    @Test
+    void writeZip_WhenAnEntryCannotBeRendered_ShouldAbortInsteadOfSkipping() {
+        when(pdfExportService.renderQueued(any())).thenAnswer(invocation -> {
+            PreparedExport export = invocation.getArgument(0);
+            if ("cv2".equals(export.cv().getId())) {
+                throw new ServiceUnavailableException("Trop d'exports en cours", 2);
+            }
+            return "%PDF".getBytes();
+        });
+
+        assertThrows(IOException.class,
+                () -> bulkExportService.writeZip(exports("cv1", "cv2", "cv3"), new ByteArrayOutputStream()));
+    }
+
+    private static List<PreparedExport> exports(String... cvIds) {
+        List<PreparedExport> exports = new ArrayList<>();
+        for (String cvId : cvIds) {
+            CV cv = CV.builder().id(cvId).userId("user123").title("CV").build();
+            exports.add(PreparedExport.of(cv, Locale.FRENCH, OutputProfile.STANDARD));
+        }
+        return exports;
+    }
+
+    private static List<String> entryNames(byte[] zip) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+}
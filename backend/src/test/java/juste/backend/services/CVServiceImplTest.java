@@ -10,6 +10,7 @@ import juste.backend.document.Styling;
 import juste.backend.document.User;
 import juste.backend.enums.Role;
 import juste.backend.enums.Theme;
+import juste.backend.events.CVChangedEvent;
 import juste.backend.exceptions.UnauthorizedException;
 import juste.backend.mappers.CVMapper;
 import juste.backend.repositories.CVRepository;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +48,9 @@ class CVServiceImplTest {
     @Mock
     private CVMapper cvMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CVServiceImpl cvService;
 
@@ -216,6 +221,7 @@ class CVServiceImplTest {
 
         // Then
         verify(cvRepository).delete(cv);
+        verify(eventPublisher).publishEvent(new CVChangedEvent("cv123", "user123", CVChangedEvent.Type.DELETED));
     }
 
     @Test
@@ -0,0 +1,180 @@
+package juste.backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import juste.backend.config.ExportProperties;
+import juste.backend.controllers.ExportController;
+import juste.backend.document.CV;
+import juste.backend.dtos.requests.CVRequest;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PreparedExport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@WebMvcTest(ExportController.class)
+@AutoConfigureMockMvc(addFilters = false) // Désactiver la sécurité pour les tests
+class ExportControllerTest {
+
+    private static final String ETAG = "\"hash:PDF:STANDARD:v1\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private IPDFExportService pdfExportService;
+
+    @MockitoBean
+    private IExportJobService exportJobService;
+
+    @MockitoBean
+    private IBulkExportService bulkExportService;
+
+    @MockitoBean
+    private IThumbnailService thumbnailService;
+
+    @MockitoBean
+    private ExportProperties exportProperties;
+
+    private PreparedExport export;
+
+    @BeforeEach
+    void setUp() {
+        CV cv = CV.builder().id("cv123").userId("user123").summary("Résumé").build();
+        export = PreparedExport.of(cv, Locale.FRENCH, OutputProfile.STANDARD);
+
+        when(pdfExportService.prepare(eq("cv123"), anyString(), any(Locale.class))).thenReturn(export);
+        when(pdfExportService.eTag(export)).thenReturn(ETAG);
+    }
+
+    @Test
+    @WithMockUser(username = "john@example.com")
+    void exportToPDF_WithMatchingETag_ShouldReturnNotModifiedWithoutRendering() throws Exception {
+        mockMvc.perform(get("/api/export/pdf/cv123")
+                        .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+
+        verify(pdfExportService, never()).admit(any());
+        verify(pdfExportService, never()).render(any());
+        verify(pdfExportService, never()).write(any(), any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(username = "john@example.com")
+    void exportToPDF_WithRange_ShouldReturnPartialContent() throws Exception {
+        when(pdfExportService.render(export)).thenReturn("%PDF-1.4 contenu".getBytes());
+
+        mockMvc.perform(get("/api/export/pdf/cv123")
+                        .header(HttpHeaders.RANGE, "bytes=0-7"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-7/16"))
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string("%PDF-1.4"));
+    }
+
+    @Test
+    @WithMockUser(username = "john@example.com")
+    void exportToPDF_WithStaleIfRange_ShouldNotUseRange() throws Exception {
+        mockMvc.perform(get("/api/export/pdf/cv123")
+                        .header(HttpHeaders.RANGE, "bytes=0-7")
+                        .header(HttpHeaders.IF_RANGE, "\"ancienne-version\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"));
+
+        verify(pdfExportService, never()).render(any());
+    }
+
+    @Test
+    @WithMockUser(username = "john@example.com")
+    void exportToPDF_WithNonDeterministicProfile_ShouldSendWeakETagAndIgnoreRange() throws Exception {
+        PreparedExport compact = export.withProfile(OutputProfile.COMPACT);
+        when(pdfExportService.eTag(compact)).thenReturn("W/" + ETAG);
+
+        mockMvc.perform(get("/api/export/pdf/cv123")
+                        .param("profile", "compact")
+                        .header(HttpHeaders.RANGE, "bytes=0-7"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/" + ETAG))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "none"));
+
+        verify(pdfExportService, never()).render(any());
+    }
+
+    @Test
+    @WithMockUser(username = "john@example.com")
+    void getThumbnail_ShouldVersionETagWithRendererVersion() throws Exception {
+        when(thumbnailService.version(export)).thenReturn("hash-v2");
+        when(thumbnailService.getThumbnail(export)).thenReturn(new byte[]{1});
+        when(exportProperties.getThumbnail()).thenReturn(new ExportProperties.Thumbnail());
+
+        mockMvc.perform(get("/api/export/pdf/cv123/thumbnail").param("v", "hash-v2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"hash-v2\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+
+        // Version d'avant la mise à jour du moteur : plus d'immuabilité
+        mockMvc.perform(get("/api/export/pdf/cv123/thumbnail").param("v", export.contentHash()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")));
+    }
+
+    @Test
+    @WithMockUser(username = "john@example.com")
+    void preview_ShouldRenderRequestWithoutLoadingCV() throws Exception {
+        when(pdfExportService.preparePreview(any(CVRequest.class), eq(Locale.ENGLISH))).thenReturn(export);
+
+        CVRequest request = new CVRequest("CV Développeur", null, "Résumé",
+                null, null, null, null, null, null, null);
+
+        mockMvc.perform(post("/api/export/preview")
+                        .param("lang", "en")
+                        .param("format", "html")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+
+        verify(pdfExportService).admitPreview("john@example.com");
+        verify(pdfExportService, never()).prepare(anyString(), anyString(), any(Locale.class));
+    }
+
+    @Test
+    @WithMockUser(username = "john@example.com")
+    void preview_WithoutTitle_ShouldReturnBadRequest() throws Exception {
+        CVRequest request = new CVRequest("", null, null, null, null, null, null, null, null, null);
+
+        mockMvc.perform(post("/api/export/preview")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(pdfExportService, never()).preparePreview(any(), any());
+    }
+}
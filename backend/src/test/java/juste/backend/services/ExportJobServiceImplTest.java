@@ -0,0 +1,66 @@
+package juste.backend.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.dtos.responses.ExportJobResponse;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PreparedExport;
+import juste.backend.services.impl.ExportJobServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+@ExtendWith(MockitoExtension.class)
+class ExportJobServiceImplTest {
+
+    @Mock
+    private IPDFExportService pdfExportService;
+
+    private ExportJobServiceImpl exportJobService;
+
+    @BeforeEach
+    void setUp() {
+        exportJobService = new ExportJobServiceImpl(pdfExportService, new ExportProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportJobService.shutdown();
+    }
+
+    @Test
+    void submit_ShouldRenderAcceptedJobThroughTheQueuedAdmission() throws Exception {
+        CV cv = CV.builder().id("cv123").userId("user123").summary("Résumé").build();
+        PreparedExport export = PreparedExport.of(cv, Locale.FRENCH, OutputProfile.STANDARD);
+        when(pdfExportService.prepare(eq("cv123"), anyString(), any(Locale.class))).thenReturn(export);
+        when(pdfExportService.renderQueued(any())).thenReturn("%PDF".getBytes());
+
+        ExportJobResponse job = exportJobService.submit("cv123", "john@example.com", Locale.FRENCH);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!"COMPLETED".equals(exportJobService.getStatus(job.jobId(), "john@example.com").status())) {
+            assertTrue(System.currentTimeMillis() < deadline, "Tâche non terminée");
+            Thread.sleep(10);
+        }
+        assertArrayEquals("%PDF".getBytes(), exportJobService.getResult(job.jobId(), "john@example.com"));
+        verify(pdfExportService, never()).render(any());
+    }
+}
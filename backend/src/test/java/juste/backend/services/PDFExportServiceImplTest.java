@@ -0,0 +1,125 @@
+package juste.backend.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import juste.backend.config.ExportProperties;
+import juste.backend.document.CV;
+import juste.backend.exceptions.ServiceUnavailableException;
+import juste.backend.export.CVRenderer;
+import juste.backend.export.CVRendererRegistry;
+import juste.backend.export.ExportMetrics;
+import juste.backend.export.InFlightRenders;
+import juste.backend.export.OutputProfile;
+import juste.backend.export.PDFRenderCache;
+import juste.backend.export.PDFRenderLimiter;
+import juste.backend.export.PreparedExport;
+import juste.backend.export.RenderBufferPool;
+import juste.backend.export.RenderDeadline;
+import juste.backend.export.RenderFormat;
+import juste.backend.export.RenderPermit;
+import juste.backend.export.RenderStore;
+import juste.backend.export.layout.LabelTables;
+import juste.backend.export.layout.LayoutPlanRegistry;
+import juste.backend.services.impl.PDFExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author PAKOU Komi Juste
+ * @since 10/18/26
+ */
+class PDFExportServiceImplTest {
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private PDFRenderCache renderCache;
+    private PDFRenderLimiter renderLimiter;
+    private PDFExportServiceImpl exportService;
+    private PreparedExport export;
+
+    @BeforeEach
+    void setUp() {
+        ExportProperties properties = new ExportProperties();
+        properties.getStore().setEnabled(false);
+        properties.getLimiter().setMaxPerUser(1);
+        properties.getLimiter().setMaxWait(Duration.ofMillis(10));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LayoutPlanRegistry layoutPlans = new LayoutPlanRegistry(properties, new LabelTables());
+
+        renderCache = new PDFRenderCache(properties, layoutPlans, meterRegistry);
+        renderLimiter = new PDFRenderLimiter(properties, meterRegistry);
+        exportService = new PDFExportServiceImpl(
+                null,
+                null,
+                new CVRendererRegistry(List.of(new StubRenderer())),
+                renderCache,
+                new RenderStore(properties, layoutPlans, meterRegistry),
+                renderLimiter,
+                new InFlightRenders(meterRegistry),
+                new RenderBufferPool(properties, meterRegistry),
+                layoutPlans,
+                properties,
+                new ExportMetrics(meterRegistry));
+
+        CV cv = CV.builder().id("cv123").userId("user123").summary("Résumé").build();
+        export = PreparedExport.of(cv, Locale.FRENCH, OutputProfile.STANDARD);
+    }
+
+    @Test
+    void write_WhenCachedAtAdmissionButEvictedSince_ShouldTakeAPermitBeforeRendering() throws IOException {
+        renderCache.put("cv123", export.renderKey(), "%PDF".getBytes());
+        RenderPermit admitted = exportService.admit(export);
+        assertSame(RenderPermit.NONE, admitted);
+
+        // Évincé entre l'admission et l'écriture, alors que l'utilisateur a déjà un rendu en cours
+        renderCache.invalidate("cv123");
+        RenderPermit other = renderLimiter.acquire("user123");
+
+        assertThrows(ServiceUnavailableException.class, () -> exportService.write(
+                export, new ByteArrayOutputStream(), admitted, RenderDeadline.none()));
+        assertEquals(0, renders.get());
+
+        other.close();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.write(export, out, admitted, RenderDeadline.none());
+        assertEquals("%PDF rendu", out.toString());
+
+        // Le permis pris pour le rendu est libéré
+        assertDoesNotThrow(() -> renderLimiter.acquire("user123").close());
+    }
+
+    @Test
+    void admitPreview_ShouldShareTheUserSlotsOfExports() {
+        try (RenderPermit download = renderLimiter.acquire("user123")) {
+            assertThrows(ServiceUnavailableException.class, () -> exportService.admitPreview("user123"));
+        }
+        assertDoesNotThrow(() -> exportService.admitPreview("user123").close());
+    }
+
+    private class StubRenderer implements CVRenderer {
+
+        @Override
+        public RenderFormat getFormat() {
+            return RenderFormat.PDF;
+        }
+
+        @Override
+        public void render(PreparedExport export, OutputStream out, RenderDeadline deadline) {
+            renders.incrementAndGet();
+            try {
+                out.write("%PDF rendu".getBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}